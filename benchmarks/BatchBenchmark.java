@@ -0,0 +1,88 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Craps;
+import model.CrapsPlayerBatch;
+import model.RollKernel;
+import model.WinState;
+
+/**
+ * Compares rolling one Craps object per game against rolling a
+ * CrapsPlayerBatch with the scalar and the vector kernel. Every benchmark
+ * performs PLAYERS rolls per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BatchBenchmark {
+    /** The amount of games rolled per invocation. */
+    private static final int PLAYERS = 4096;
+
+    /** Which kernel the batch benchmark uses. */
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    /** One Craps object per game. */
+    private Craps[] myGames;
+    /** The batch of players. */
+    private CrapsPlayerBatch myBatch;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        this.myGames = new Craps[BatchBenchmark.PLAYERS];
+        for (int i = 0; i < this.myGames.length; i++) {
+            this.myGames[i] = new Craps(random);
+        }
+
+        this.myBatch = new CrapsPlayerBatch(
+            BatchBenchmark.PLAYERS,
+            "vector".equals(this.kernel) ? RollKernel.vector() : RollKernel.scalar()
+        );
+        this.myBatch.setRandomGenerator(new SplittableRandom(42));
+        this.myBatch.setBankAll(Integer.MAX_VALUE / 4);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BatchBenchmark.PLAYERS)
+    public int crapsObjects() {
+        int playing = 0;
+        for (Craps game : this.myGames) {
+            if (game.roll() == WinState.ONGOING) {
+                playing++;
+            } else {
+                game.reset();
+            }
+        }
+
+        return playing;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BatchBenchmark.PLAYERS)
+    public int batch() {
+        this.myBatch.setBetAll(1);
+        this.myBatch.startGames();
+
+        return this.myBatch.roll();
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import view.components.DiePanel;
+
+/**
+ * Measures painting a DiePanel into an offscreen image without a display,
+ * compared to drawing every pip with drawOval the way each paint used to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DiePanelBenchmark {
+    /** The width and height of the die in pixels. */
+    @Param({"60", "150"})
+    public int size;
+
+    /** The panel being painted. */
+    private DiePanel myPanel;
+    /** The offscreen image painted into. */
+    private BufferedImage myTarget;
+    /** The graphics of the offscreen image. */
+    private Graphics2D myGraphics;
+    /** The face shown next. */
+    private int myFace;
+
+    @Setup
+    public void setUp() {
+        this.myPanel = new DiePanel();
+        this.myPanel.setSize(this.size, this.size);
+        this.myTarget = new BufferedImage(this.size, this.size, BufferedImage.TYPE_INT_RGB);
+        this.myGraphics = this.myTarget.createGraphics();
+        this.myFace = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.myGraphics.dispose();
+    }
+
+    @Benchmark
+    public void paintCached() {
+        this.myFace = (this.myFace % 6) + 1;
+        this.myPanel.setNumber(this.myFace);
+        this.myPanel.paintComponent(this.myGraphics);
+    }
+
+    @Benchmark
+    public void paintPips() {
+        this.myFace = (this.myFace % 6) + 1;
+        this.myGraphics.setColor(Color.white);
+        this.myGraphics.fillRect(0, 0, this.size, this.size);
+        this.myGraphics.setColor(Color.black);
+
+        int sectionSize = this.size / 3;
+        for (int pip = 0; pip < this.myFace; pip++) {
+            int cell = (pip * 4) % 9; // any distinct cells; only the cost of drawing matters
+            this.myGraphics.drawOval(sectionSize * (cell % 3), sectionSize * (cell / 3), sectionSize, sectionSize);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import model.ObservedCrapsPlayer;
+import model.PlayerChange;
+import model.bus.EventConsumer;
+import model.bus.EventHandler;
+import model.bus.PlayerEvent;
+import model.bus.PlayerEventBus;
+import model.bus.WaitStrategy;
+
+/**
+ * Measures publishing to a PlayerEventBus, both on its own and as the way an
+ * ObservedCrapsPlayer reports its games. The consumer polls on the same
+ * thread so the ring never fills up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+    /** The bank a player is refilled with once it runs out. */
+    private static final int BANK = 1_000_000;
+
+    /** The bus. */
+    private PlayerEventBus myBus;
+    /** The consumer of the bus. */
+    private EventConsumer myConsumer;
+    /** Hands every event to the blackhole. */
+    private EventHandler myHandler;
+    /** A player publishing to the bus. */
+    private ObservedCrapsPlayer myPlayer;
+    /** The sequence of the next event published by publishAndPoll. */
+    private int myNext;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.myBus = new PlayerEventBus(1_024);
+        this.myConsumer = this.myBus.addConsumer(WaitStrategy.busySpin());
+        this.myHandler = (PlayerEvent event, long sequence, boolean endOfBatch) -> blackhole.consume(event.getBank());
+        this.myPlayer = new ObservedCrapsPlayer();
+        this.myPlayer.setEventBus(this.myBus, 0);
+        this.myPlayer.reinitialize(EventBusBenchmark.BANK);
+    }
+
+    @Benchmark
+    public int publishAndPoll() {
+        int i = this.myNext++;
+        this.myBus.publish(PlayerChange.DICE | PlayerChange.BANK, i & 7, 3, 4, i, 1, -1, -1, true);
+
+        return this.myConsumer.poll(this.myHandler);
+    }
+
+    @Benchmark
+    public int busGame() {
+        if (this.myPlayer.getBank() <= 0) {
+            this.myPlayer.reinitialize(EventBusBenchmark.BANK);
+        }
+
+        this.myPlayer.setBet(1);
+        this.myPlayer.startGame();
+        while (this.myPlayer.isPlaying()) {
+            this.myPlayer.continueGame();
+        }
+
+        return this.myConsumer.poll(this.myHandler);
+    }
+}
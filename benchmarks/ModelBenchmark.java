@@ -0,0 +1,76 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Craps;
+import model.CrapsPlayer;
+import model.Dice;
+import model.WinState;
+
+/**
+ * Measures the baseline cost of the model's hot paths: a single roll, a
+ * single Craps.roll() and a whole CrapsPlayer game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+    /** The bank a player is refilled with once it runs out. */
+    private static final int BANK = 1_000_000;
+
+    /** The game rolled by crapsRoll. */
+    private Craps myGame;
+    /** The player of playerGame. */
+    private CrapsPlayer myPlayer;
+
+    @Setup
+    public void setUp() {
+        this.myGame = new Craps();
+        this.myPlayer = new CrapsPlayer();
+        this.myPlayer.reinitialize(ModelBenchmark.BANK);
+    }
+
+    @Benchmark
+    public Dice diceNewRoll() {
+        return Dice.newRoll();
+    }
+
+    @Benchmark
+    public WinState crapsRoll() {
+        WinState result = this.myGame.roll();
+        if (result != WinState.ONGOING) {
+            this.myGame.reset();
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public int playerGame() {
+        if (this.myPlayer.getBank() <= 0) {
+            this.myPlayer.reinitialize(ModelBenchmark.BANK);
+        }
+
+        this.myPlayer.setBet(1);
+        this.myPlayer.startGame();
+        while (this.myPlayer.isPlaying()) {
+            this.myPlayer.continueGame();
+        }
+
+        return this.myPlayer.getBank();
+    }
+}
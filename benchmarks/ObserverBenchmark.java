@@ -0,0 +1,136 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import libraries.observer.Subject;
+import model.ObservedCrapsPlayer;
+import model.PlayerChange;
+import model.WinState;
+
+/**
+ * Measures ObservedCrapsPlayer games with a varying amount of observers on
+ * every subject, and the cost of Subject.update fanning out through plain,
+ * derived and derived-then-converted subjects compared to a fused pipeline.
+ * The chains filter a change set on its bank field and pick out the bank,
+ * as every individual subject of ObservedCrapsPlayer does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObserverBenchmark {
+    /** The bank a player is refilled with once it runs out. */
+    private static final int BANK = 1_000_000;
+
+    /** How many observers are attached to every subject. */
+    @Param({"0", "1", "8"})
+    public int observers;
+
+    /** The observed player. */
+    private ObservedCrapsPlayer myPlayer;
+    /** The change set every chain is updated with. */
+    private PlayerChange myChange;
+    /** A subject with the observers attached directly. */
+    private Subject<PlayerChange> myPlain;
+    /** A subject whose observers listen through a derived subject. */
+    private Subject<PlayerChange> myDerived;
+    /** A subject whose observers listen through a derived then converted subject. */
+    private Subject<PlayerChange> myDerivedConverted;
+    /** A subject whose observers listen through a fused filter then map pipeline. */
+    private Subject<PlayerChange> myFused;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.myPlayer = new ObservedCrapsPlayer();
+        this.myPlain = new Subject<>();
+        this.myDerived = new Subject<>();
+        this.myDerivedConverted = new Subject<>();
+        this.myFused = new Subject<>();
+
+        this.myChange = new PlayerChange(
+            PlayerChange.BANK | PlayerChange.RESULT, ObserverBenchmark.BANK, 1, null, -1, false, WinState.WON, 1, 0
+        );
+
+        Subject<PlayerChange> derived = this.myDerived
+            .getDerivedSubject((PlayerChange change) -> change.has(PlayerChange.BANK));
+        Subject<Integer> converted = this.myDerivedConverted
+            .getDerivedSubject((PlayerChange change) -> change.has(PlayerChange.BANK))
+            .getConvertedSubject((PlayerChange change) -> change.bank());
+        Subject<Integer> fused = this.myFused.pipe()
+            .filter((PlayerChange change) -> change.has(PlayerChange.BANK))
+            .map((PlayerChange change) -> change.bank())
+            .toSubject();
+
+        for (int i = 0; i < this.observers; i++) {
+            this.myPlayer.getBankSubject().addObserver(blackhole::consume);
+            this.myPlayer.getBetSubject().addObserver(blackhole::consume);
+            this.myPlayer.getPointSubject().addObserver(blackhole::consume);
+            this.myPlayer.getDiceSubject().addObserver(blackhole::consume);
+            this.myPlayer.getDie1Subject().addObserver(blackhole::consume);
+            this.myPlayer.getDie2Subject().addObserver(blackhole::consume);
+            this.myPlayer.getDiceTotalSubject().addObserver(blackhole::consume);
+            this.myPlayer.getGameResultSubject().addObserver(blackhole::consume);
+            this.myPlayer.getGameWonSubject().addObserver(blackhole::consume);
+            this.myPlayer.getGameLossSubject().addObserver(blackhole::consume);
+            this.myPlayer.getGameStateSubject().addObserver(blackhole::consume);
+            this.myPlayer.getGameStartableSubject().addObserver(blackhole::consume);
+
+            this.myPlain.addObserver(blackhole::consume);
+            derived.addObserver(blackhole::consume);
+            converted.addObserver(blackhole::consume);
+            fused.addObserver(blackhole::consume);
+        }
+
+        this.myPlayer.reinitialize(ObserverBenchmark.BANK);
+    }
+
+    @Benchmark
+    public int observedGame() {
+        if (this.myPlayer.getBank() <= 0) {
+            this.myPlayer.reinitialize(ObserverBenchmark.BANK);
+        }
+
+        this.myPlayer.setBet(1);
+        this.myPlayer.startGame();
+        while (this.myPlayer.isPlaying()) {
+            this.myPlayer.continueGame();
+        }
+
+        return this.myPlayer.getBank();
+    }
+
+    @Benchmark
+    public void plainUpdate() {
+        this.myPlain.update(this.myChange);
+    }
+
+    @Benchmark
+    public void derivedUpdate() {
+        this.myDerived.update(this.myChange);
+    }
+
+    @Benchmark
+    public void derivedConvertedUpdate() {
+        this.myDerivedConverted.update(this.myChange);
+    }
+
+    @Benchmark
+    public void fusedUpdate() {
+        this.myFused.update(this.myChange);
+    }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import java.awt.Component;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import libraries.panellist.PanelList;
+import view.components.LabeledTextField;
+
+/**
+ * Measures building a PanelList of buttons and labeled text fields without a
+ * display, similar to the panels controller.Main builds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PanelListBenchmark {
+    /** How many buttons and text fields the PanelList holds. */
+    @Param({"6", "24"})
+    public int components;
+
+    @Benchmark
+    public JPanel build() {
+        PanelList panelList = new PanelList(new PanelList.Layout().complete()
+            .title("Benchmark")
+            .margin(5, 0, 5, 0)
+            .addComponentHandler(JButton.class, (Component component) -> {
+                component.setEnabled(false);
+
+                return component;
+            })
+        );
+
+        for (int i = 0; i < this.components; i++) {
+            panelList.addComponent(new JButton("+$" + i), e -> { });
+            panelList.addComponent(new LabeledTextField("$ ", 7).build());
+        }
+
+        return panelList.build();
+    }
+}
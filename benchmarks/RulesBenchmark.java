@@ -0,0 +1,124 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Craps;
+import model.WinState;
+import model.rules.CompiledRules;
+
+/**
+ * Compares resolving rolls through the compiled rule table against the
+ * HashSet lookups Craps used before, and measures a full Craps.roll().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+    /** The amount of pre-rolled (point, sum) pairs. */
+    private static final int ROLLS = 1024;
+
+    /** The rolls that lead to a win on the first turn (previous Craps). */
+    private static final Set<Integer> firstTurnWins = new HashSet<>(Arrays.asList(7, 11));
+    /** The rolls that lead to a loss on the first turn (previous Craps). */
+    private static final Set<Integer> firstTurnloss = new HashSet<>(Arrays.asList(2, 3, 12));
+    /** The roll that leads to a loss on turns after the first (previous Craps). */
+    private static final int laterTurnLoss = 7;
+
+    /** The points of the pre-rolled pairs (COME_OUT for come-out rolls). */
+    private final int[] myPoints = new int[RulesBenchmark.ROLLS];
+    /** The sums of the pre-rolled pairs. */
+    private final int[] mySums = new int[RulesBenchmark.ROLLS];
+    /** The game rolled by rollCraps. */
+    private Craps myGame;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] points = {CompiledRules.COME_OUT, 4, 5, 6, 8, 9, 10};
+
+        for (int i = 0; i < RulesBenchmark.ROLLS; i++) {
+            this.myPoints[i] = points[random.nextInt(points.length)];
+            this.mySums[i] = random.nextInt(1, 7) + random.nextInt(1, 7);
+        }
+
+        this.myGame = new Craps(new SplittableRandom(7));
+    }
+
+    /**
+     * The getResult logic Craps used before the rules were compiled.
+     */
+    private static WinState hashSetResult(boolean firstTurn, int point, int sum) {
+        if (firstTurn) {
+            if (RulesBenchmark.firstTurnWins.contains(sum)) {
+                return WinState.WON;
+            } else if (RulesBenchmark.firstTurnloss.contains(sum)) {
+                return WinState.LOSS;
+            }
+        } else {
+            if (sum == point) {
+                return WinState.WON;
+            } else if (sum == RulesBenchmark.laterTurnLoss) {
+                return WinState.LOSS;
+            }
+        }
+
+        return WinState.ONGOING;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RulesBenchmark.ROLLS)
+    public int hashSetLookup() {
+        int wins = 0;
+        for (int i = 0; i < RulesBenchmark.ROLLS; i++) {
+            int point = this.myPoints[i];
+            if (RulesBenchmark.hashSetResult(point == CompiledRules.COME_OUT, point, this.mySums[i]) == WinState.WON) {
+                wins++;
+            }
+        }
+
+        return wins;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RulesBenchmark.ROLLS)
+    public int compiledLookup() {
+        CompiledRules rules = CompiledRules.STANDARD;
+        int wins = 0;
+        for (int i = 0; i < RulesBenchmark.ROLLS; i++) {
+            if (rules.resolve(this.myPoints[i], this.mySums[i]) == WinState.WON) {
+                wins++;
+            }
+        }
+
+        return wins;
+    }
+
+    @Benchmark
+    public WinState rollCraps() {
+        WinState result = this.myGame.roll();
+        if (result != WinState.ONGOING) {
+            this.myGame.reset();
+        }
+
+        return result;
+    }
+}
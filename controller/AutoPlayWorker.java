@@ -0,0 +1,248 @@
+package controller;
+
+import java.awt.EventQueue;
+import java.time.Duration;
+
+import libraries.observer.Subject;
+import model.BetPolicy;
+import model.Dice;
+import model.ObservedCrapsPlayer;
+import model.PlayerChange;
+import model.WinState;
+import model.sim.AutoPlayer;
+
+/**
+ * AutoPlayWorker plays many games for the window's player on a background
+ * thread. The games are played on a copy of the player, so the window's
+ * player is only ever touched on the EDT and the copy runs at full speed.
+ *
+ * While a run plays, the copy's latest state is sampled at most once per
+ * frame and shown on the progress subject, so the window can show it the
+ * same way it shows the changes of its own player. When the run ends or
+ * is cancelled, the window's player takes over the copy's state. Results are
+ * never published during a run, so no dialog or sound is triggered per game.
+ */
+public class AutoPlayWorker {
+    /**
+     * Progress is the state of a run as of one change of the copy.
+     *
+     * @param played How many games were finished.
+     * @param total How many games the run plays at most.
+     * @param latest The latest change of the copy (null if none was made).
+     */
+    public record Progress(int played, int total, PlayerChange latest) {}
+
+    /** The window's player. */
+    private final ObservedCrapsPlayer myPlayer;
+    /** How long a frame lasts. */
+    private final Duration myFrame;
+    /** Updated on the EDT at most once per frame while a run plays. */
+    private final Subject<Progress> myProgress;
+    /** Updated on the EDT when a run starts and ends. */
+    private final Subject<Boolean> myRunningSubject;
+    /** Updated on the background thread with every change of a run's copy. */
+    private final Subject<PlayerChange> myChangeSubject;
+    /** The run that is playing (null if none is, only used on the EDT). */
+    private Run myRun;
+
+    /**
+     * Constructs an AutoPlayWorker.
+     *
+     * @param player The window's player.
+     * @param frame How long a frame lasts, such as 1/60 of a second.
+     */
+    public AutoPlayWorker(ObservedCrapsPlayer player, Duration frame) {
+        this.myPlayer = player;
+        this.myFrame = frame;
+        this.myProgress = new Subject<>();
+        this.myRunningSubject = new Subject<>();
+        this.myChangeSubject = new Subject<>();
+        this.myRun = null;
+    }
+
+    /**
+     * Gets the progress subject, which is updated on the EDT at most once per
+     * frame while a run plays, and once more when it ends.
+     *
+     * @return The progress subject.
+     */
+    public Subject<Progress> getProgressSubject() {
+        return this.myProgress;
+    }
+
+    /**
+     * Gets the running subject, which is updated on the EDT with true when a
+     * run starts and false when it ends.
+     *
+     * @return The running subject.
+     */
+    public Subject<Boolean> getRunningSubject() {
+        return this.myRunningSubject;
+    }
+
+    /**
+     * Gets the change subject, which is updated on the background thread with
+     * every change of the copy while a run plays. Its observers must be quick
+     * and thread safe, since they slow down the run.
+     *
+     * @return The change subject.
+     */
+    public Subject<PlayerChange> getChangeSubject() {
+        return this.myChangeSubject;
+    }
+
+    /**
+     * Checks if a run is playing. Must be called on the EDT.
+     *
+     * @return True if a run is playing.
+     */
+    public boolean isRunning() {
+        return this.myRun != null;
+    }
+
+    /**
+     * Starts playing games on a background thread. The run ends after the
+     * given amount of games, once the bank is empty or the policy stops, or
+     * after the game in progress when it is cancelled. Must be called on the
+     * EDT.
+     *
+     * @param games The most games to play.
+     * @param policy Decides the bet of every game.
+     */
+    public void start(int games, BetPolicy policy) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("Amount of games must be positive");
+        } else if (this.myRun != null) {
+            throw new IllegalStateException("Auto-play is already running");
+        } else if (this.myPlayer.isPlaying()) {
+            throw new IllegalStateException("Cannot auto-play while a game is ongoing");
+        }
+
+        Run run = new Run(new ObservedCrapsPlayer(this.myPlayer), policy, games);
+        this.myRun = run;
+        run.myProgress.sample(this.myFrame)
+            .conflateOn(EventQueue::invokeLater)
+            .addObserver((Progress progress) -> {
+                if (this.myRun == run) {
+                    this.show(progress);
+                }
+            });
+
+        this.myRunningSubject.update(true);
+
+        Thread thread = new Thread(run, "auto-play");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the run after the game in progress. Must be called on the EDT.
+     */
+    public void cancel() {
+        Run run = this.myRun;
+        if (run != null) {
+            run.myCancelled = true;
+        }
+    }
+
+    /**
+     * Shows the state of the copy on the progress subject. The changes
+     * between two frames are skipped, so bank, bet, wins and losses are
+     * always flagged as changed.
+     *
+     * @param progress The state.
+     */
+    private void show(Progress progress) {
+        PlayerChange change = progress.latest();
+        if (change != null) {
+            change = new PlayerChange(
+                change.fields() | PlayerChange.BANK | PlayerChange.BET | PlayerChange.WINS | PlayerChange.LOSSES,
+                change.bank(), change.bet(), change.dice(), change.point(), change.playing(), change.result(),
+                change.wins(), change.losses()
+            );
+        }
+
+        this.myProgress.update(new Progress(progress.played(), progress.total(), change));
+    }
+
+    /**
+     * Ends a run: shows its final state and lets the window's player take it
+     * over. Runs on the EDT.
+     *
+     * @param run The run.
+     */
+    private void finish(Run run) {
+        // the background thread is done, so the copy is safe to read
+        ObservedCrapsPlayer copy = run.myCopy;
+        PlayerChange latest = run.myLatest;
+        Dice dice = (latest != null && latest.has(PlayerChange.DICE)) ? latest.dice() : null;
+        int fields = PlayerChange.BANK | PlayerChange.BET | PlayerChange.WINS | PlayerChange.LOSSES;
+        this.show(new Progress(run.myPlayed, run.myGames, new PlayerChange(
+            (dice == null) ? fields : (fields | PlayerChange.DICE),
+            copy.getBank(), copy.getBet(), dice, -1, copy.isPlaying(), null, copy.getMyWins(), copy.getMyLosses()
+        )));
+        // only cleared after the final state is shown, so it is shown like the frames of the run
+        this.myRun = null;
+
+        this.myPlayer.copyFrom(copy);
+        this.myRunningSubject.update(false);
+    }
+
+    /**
+     * A Run plays the games of one start on the background thread.
+     */
+    private final class Run implements Runnable {
+        /** The copy of the window's player the games are played on. */
+        private final ObservedCrapsPlayer myCopy;
+        /** Plays the games. */
+        private final AutoPlayer myAutoPlayer;
+        /** The most games to play. */
+        private final int myGames;
+        /** Updated on the background thread with every change of the copy. */
+        private final Subject<Progress> myProgress;
+        /** How many games were finished (written by the background thread). */
+        private volatile int myPlayed;
+        /** The latest change of the copy (written by the background thread). */
+        private volatile PlayerChange myLatest;
+        /** Whether the run should stop after the game in progress. */
+        private volatile boolean myCancelled;
+
+        /**
+         * Constructs a Run.
+         *
+         * @param copy The copy of the window's player.
+         * @param policy Decides the bet of every game.
+         * @param games The most games to play.
+         */
+        Run(ObservedCrapsPlayer copy, BetPolicy policy, int games) {
+            this.myCopy = copy;
+            this.myAutoPlayer = new AutoPlayer(copy, policy);
+            this.myGames = games;
+            this.myProgress = new Subject<>();
+            this.myPlayed = 0;
+            this.myLatest = null;
+            this.myCancelled = false;
+
+            copy.getChangeSubject().addObserver((PlayerChange change) -> {
+                this.myLatest = change;
+                AutoPlayWorker.this.myChangeSubject.update(change);
+                if (change.has(PlayerChange.RESULT)) {
+                    this.myPlayed++;
+                }
+                this.myProgress.update(new Progress(this.myPlayed, this.myGames, change));
+            });
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (this.myPlayed < this.myGames && !this.myCancelled
+                        && this.myAutoPlayer.playGame() != WinState.ONGOING) {
+                    // every game is counted by the change observer
+                }
+            } finally {
+                EventQueue.invokeLater(() -> AutoPlayWorker.this.finish(this));
+            }
+        }
+    }
+}
@@ -1,27 +1,50 @@
 package controller;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
+import javax.sound.sampled.UnsupportedAudioFileException;
 import javax.swing.*;
 
+import controller.audio.AudioEngine;
+import controller.audio.Sound;
 import libraries.observer.Subject;
 import libraries.panellist.PanelList;
 import libraries.panellist.PanelList.Direction;
+import libraries.timing.Timeline;
+import model.BetPolicy;
+import model.Dice;
 import model.ObservedCrapsPlayer;
+import model.PlayerChange;
 import model.WinState;
+import view.AnimationClock;
 import view.CrapsWindowHandler;
+import view.components.AutoPlayPanel;
 import view.components.DiePanel;
 import view.components.GameScreen;
 import view.components.LabeledTextField;
+import view.components.RollHistoryModel;
+import view.components.RollHistoryPanel;
 
+import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.EventQueue;
 import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 final public class Main {
     static final String TITLE = "Craps by Hai Duong";
     
     // THEME STANDARDS
-    private static final Dimension WINDOW_SIZE = new Dimension(750, 500);
+    private static final Dimension WINDOW_SIZE = new Dimension(1200, 500);
 
     private static final PanelList.Margin SMALL_BOTH_MARGIN = new PanelList.Margin(10, 10, 10, 10);
     private static final PanelList.Margin MINIMAL_VERTICAL_MARGIN = new PanelList.Margin(5, 0, 5, 0);
@@ -31,6 +54,26 @@ final public class Main {
     private static final int SHORT_TEXT_FIELD_COLS = 5;
     private static final int NORMAL_TEXT_FIELD_COLS = 7;
     private static final int LONG_TEXT_FIELD_COLS = 10;
+
+    // AUDIO
+    // absolute, since ".." is not resolved inside a jar
+    private static final String SOUND_PATH = "/assets/sound/";
+    private static final String[] SOUNDS = {"roll", "roll24", "win", "win24", "lose"};
+    // the 24 bit recordings are the masters of the 16 bit ones
+    private static final String ROLL_SOUND = "roll24";
+    private static final String WIN_SOUND = "win24";
+    private static final String LOSE_SOUND = "lose";
+    private static final int AUDIO_VOICES = 8;
+    private static final Duration AUDIO_BLOCK = Duration.ofMillis(5);
+
+    // STARTUP MILESTONES
+    private static final String VERSION = "1.0";
+    private static final String STARTUP_LOG_PROPERTY = "craps.startup.log";
+    private static final String STARTUP_PRINT_PROPERTY = "craps.startup.print";
+    private static final String MAIN_STARTED = "main-started";
+    private static final String FIRST_FRAME = "first-frame";
+    private static final String ASSETS_READY = "assets-ready";
+    private static final String FIRST_INTERACTIVE = "first-interactive";
     
     /**
      * Shows a JOptionPane asking if the user would like to exit and disposes
@@ -122,7 +165,7 @@ final public class Main {
     /* default */ static void aboutPromptJOption() {
         JOptionPane.showMessageDialog(null, 
             "This craps game project was made by Hai Duong.\n\n"
-          + "Game Version: 1.0\n"
+          + "Game Version: " + Main.VERSION + "\n"
           + "Java Version: 21.0.1");
     }
     
@@ -137,8 +180,21 @@ final public class Main {
     }
     
     public static void main(String[] args) throws Exception {        
+        Timeline startup = Timeline.startup();
+        startup.mark(Main.MAIN_STARTED);
+
         // MODEL
         ObservedCrapsPlayer player = new ObservedCrapsPlayer();
+        // auto-play shows its games at most once per displayed frame
+        AutoPlayWorker autoPlay = new AutoPlayWorker(
+            player, Duration.ofNanos(1_000_000_000L / AnimationClock.getDisplayRefreshRate())
+        );
+        // a run plays on a copy, so the manual controls are turned off when it starts
+        // and turned back on by the change set of the player taking over its result
+        Subject<Boolean> setRunStartedSubject = autoPlay.getRunningSubject().pipe()
+            .filter((Boolean running) -> running)
+            .map((Boolean running) -> false)
+            .toSubject();
 
         Subject<String> setEmptySubject = new Subject<>();
         Subject<Integer> setZeroSubject = new Subject<>();
@@ -147,31 +203,38 @@ final public class Main {
             setZeroSubject.update(0);
         };
         
-        Clip winClip = AudioSystem.getClip();
-        Clip loseClip = AudioSystem.getClip();
-        Clip rollClip = AudioSystem.getClip();
-        
-        winClip.open(AudioSystem.getAudioInputStream(Main.class.getResourceAsStream("../assets/sound/win.wav")));
-        loseClip.open(AudioSystem.getAudioInputStream(Main.class.getResourceAsStream("../assets/sound/lose.wav")));
-        rollClip.open(AudioSystem.getAudioInputStream(Main.class.getResourceAsStream("../assets/sound/roll.wav")));
+        // ASSETS (loaded in the background while the window is built and shown)
+        AudioEngine audio = new AudioEngine(Main.AUDIO_VOICES, Main.AUDIO_BLOCK);
+        Map<String, CompletableFuture<Sound>> sounds = new HashMap<>();
+        for (String name : Main.SOUNDS) {
+            sounds.put(name, CompletableFuture.supplyAsync(() -> Main.loadSound(audio, name)));
+        }
+
+        List<CompletableFuture<?>> assets = new ArrayList<>(sounds.values());
+        assets.add(CompletableFuture.runAsync(audio::start));
+        CompletableFuture<Void> assetsReady = CompletableFuture.allOf(assets.toArray(CompletableFuture[]::new))
+            .whenComplete((Void unused, Throwable error) -> {
+                if (error != null) {
+                    System.err.println("Some sounds could not be loaded: " + error.getCause());
+                }
+                startup.mark(Main.ASSETS_READY);
+            });
         
-        player.getGameResultSubject().addObserver((WinState winState) -> {
+        final Consumer<WinState> announceResult = (WinState winState) -> {
             if (winState == WinState.WON) {
-                winClip.setFramePosition(0);
-                winClip.start();
+                audio.play(Main.WIN_SOUND);
                 JOptionPane.showMessageDialog(
                     null, 
                     String.format("Congrats! You won $%d ($%d was added to your bank)", player.getMyLastBet(), 2 * player.getMyLastBet())
                 );
-                winClip.stop();
+                audio.stop(Main.WIN_SOUND);
             } else if (winState == WinState.LOSS) {
-                loseClip.setFramePosition(0);
-                loseClip.start();
+                audio.play(Main.LOSE_SOUND);
                 JOptionPane.showMessageDialog(
                     null, 
                     String.format("Sorry! You lost $%d", player.getMyLastBet())
                 );
-                loseClip.stop();
+                audio.stop(Main.LOSE_SOUND);
 
                 if (player.getBank() <= 0) {
                     JOptionPane.showMessageDialog(
@@ -182,21 +245,39 @@ final public class Main {
             }
 
             clearTempData.run();
-        });
+        };
 
         // VIEW
         CrapsWindowHandler craps = new CrapsWindowHandler(Main.TITLE, Main.WINDOW_SIZE);
 
+        // MAKE ROLL HISTORY (every roll of the session, including auto-played ones)
+        RollHistoryPanel rollHistory = new RollHistoryPanel();
+        rollHistory.setBorder(BorderFactory.createTitledBorder("Roll History"));
+        player.getChangeSubject().addObserver((PlayerChange change) -> Main.recordRoll(rollHistory, change));
+        autoPlay.getChangeSubject().addObserver((PlayerChange change) -> Main.recordRoll(rollHistory, change));
+        final Runnable clearSession = () -> {
+            clearTempData.run();
+            rollHistory.clear();
+        };
+
         // MAKE MENU
         JMenu gameMenu = new JMenu("Game");
         gameMenu.setMnemonic('G');
 
         JMenuItem gameMenuStart = new JMenuItem("Start");
-        gameMenuStart.addActionListener(e -> Main.startPromptJOption(player));
+        gameMenuStart.addActionListener(e -> {
+            if (!autoPlay.isRunning()) {
+                Main.startPromptJOption(player);
+            }
+        });
         gameMenuStart.setMnemonic('S');
 
         JMenuItem gameMenuRestart = new JMenuItem("Restart");
-        gameMenuRestart.addActionListener(e -> Main.restartPromptJOption(player, clearTempData));
+        gameMenuRestart.addActionListener(e -> {
+            if (!autoPlay.isRunning()) {
+                Main.restartPromptJOption(player, clearSession);
+            }
+        });
 
         JMenuItem gameMenuExit = new JMenuItem("Exit");
         gameMenuExit.addActionListener(e -> Main.confirmQuitJOption(craps));
@@ -226,8 +307,95 @@ final public class Main {
         helpMenu.add(helpMenuRules);
         helpMenu.add(helpMenuControls);
 
+        // MAKE FIELDS
+        LabeledTextField winsField = new LabeledTextField("Player Win Total: ", Main.LONG_TEXT_FIELD_COLS);
+        LabeledTextField lossesField = new LabeledTextField("House Win Total: ", Main.LONG_TEXT_FIELD_COLS);
+        LabeledTextField bankField = new LabeledTextField("$ ", Main.NORMAL_TEXT_FIELD_COLS);
+        LabeledTextField pointField = new LabeledTextField("Point: ", Main.SHORT_TEXT_FIELD_COLS)
+            .attachStringObserver(setEmptySubject);
+        LabeledTextField die1Field = new LabeledTextField("Die 1: ", Main.LONG_TEXT_FIELD_COLS)
+            .attachStringObserver(setEmptySubject);
+        LabeledTextField die2Field = new LabeledTextField("Die 2: ", Main.LONG_TEXT_FIELD_COLS)
+            .attachStringObserver(setEmptySubject);
+        LabeledTextField totalField = new LabeledTextField("Total: ", Main.LONG_TEXT_FIELD_COLS)
+            .attachStringObserver(setEmptySubject);
+        LabeledTextField betField = new LabeledTextField("$ ", Main.NORMAL_TEXT_FIELD_COLS, (KeyEvent event) -> {
+            JTextField textField = (JTextField) event.getSource();
+            
+            if (textField.getText().isEmpty()) {
+                textField.setText("0");
+                player.setBet(0);
+            } else {
+                int amount = player.getBet();
+
+                if (Character.isDigit(event.getKeyChar())) {
+                    amount = Integer.parseInt(textField.getText() + event.getKeyChar());
+                } else if ((int) event.getKeyChar() == 8 && !textField.getText().isEmpty()) { // handle backspace
+                    amount = Integer.parseInt(textField.getText());
+                }
+
+                player.setBet(amount);
+            }
+
+            event.consume();
+        })
+            .attachEnablerObserver(player.getGameStartableSubject())
+            .attachEnablerObserver(setRunStartedSubject)
+            .setEnabled(false);
+        DiePanel die1Panel = new DiePanel();
+        DiePanel die2Panel = new DiePanel();
+
+        // one observer shows everything an operation changed, so a roll updates the window once
+        final Consumer<PlayerChange> showChange = (PlayerChange change) -> {
+            if (change.has(PlayerChange.BANK)) {
+                bankField.setText(Integer.toString(change.bank()));
+            }
+            if (change.has(PlayerChange.BET)) {
+                betField.setText(Integer.toString(change.bet()));
+            }
+            if (change.has(PlayerChange.WINS)) {
+                winsField.setText(Integer.toString(change.wins()));
+            }
+            if (change.has(PlayerChange.LOSSES)) {
+                lossesField.setText(Integer.toString(change.losses()));
+            }
+            if (change.has(PlayerChange.POINT)) {
+                pointField.setText(Integer.toString(change.point()));
+            }
+            if (change.has(PlayerChange.DICE)) {
+                Dice dice = change.dice();
+                die1Field.setText(Integer.toString(dice.myDie1));
+                die2Field.setText(Integer.toString(dice.myDie2));
+                totalField.setText(Integer.toString(dice.getSum()));
+
+                // a die shown by auto-play changes every frame, so it is not tumbled
+                if (autoPlay.isRunning()) {
+                    die1Panel.setNumber(dice.myDie1);
+                    die2Panel.setNumber(dice.myDie2);
+                } else {
+                    die1Panel.roll(dice.myDie1);
+                    die2Panel.roll(dice.myDie2);
+                }
+            }
+        };
+        player.getChangeSubject().addObserver((PlayerChange change) -> {
+            showChange.accept(change);
+            if (change.has(PlayerChange.RESULT)) {
+                announceResult.accept(change.result());
+            }
+        });
+        autoPlay.getProgressSubject().addObserver((AutoPlayWorker.Progress progress) -> {
+            if (progress.latest() != null) {
+                showChange.accept(progress.latest());
+            }
+        });
+
         // MAKE PANELS
-        craps.addPanel(new GameScreen()
+        AutoPlayPanel autoPlayPanel = new AutoPlayPanel();
+        autoPlayPanel.addStartListener(e -> Main.startAutoPlay(player, autoPlay, autoPlayPanel))
+            .addCancelListener(e -> autoPlay.cancel());
+
+        JPanel gameScreen = new GameScreen()
             .addTop("", // RESTART BUTTON
                 new PanelList(new PanelList.Layout().complete()
                     .addComponentHandler(JButton.class, (Component component) -> {
@@ -238,29 +406,21 @@ final public class Main {
                         button.setEnabled(false);
 
                         player.getGameStateSubject().addObserver((Boolean started) -> button.setEnabled(!started && player.getBank() <= 0));
+                        autoPlay.getRunningSubject().addObserver((Boolean running) -> button.setEnabled(!running && player.getBank() <= 0));
                         
                         return button;
                     })
-                ).addComponent(new JButton("Restart"), e -> Main.restartPromptJOption(player, clearTempData))
+                ).addComponent(new JButton("Restart"), e -> Main.restartPromptJOption(player, clearSession))
 
             )
             .addTop("Win Totals", 
                 new PanelList(new PanelList.Layout().complete())
-                .addComponent(new LabeledTextField("Player Win Total: ", Main.LONG_TEXT_FIELD_COLS)
-                    .attachIntegerObserver(player.getGameWonSubject())
-                    .build()
-                )
-                .addComponent(new LabeledTextField("House Win Total: ", Main.LONG_TEXT_FIELD_COLS)
-                    .attachIntegerObserver(player.getGameLossSubject())
-                    .build()
-                )
+                .addComponent(winsField.build())
+                .addComponent(lossesField.build())
             )
             .addTop("Bank", 
                 new PanelList(new PanelList.Layout().complete())
-                .addComponent(new LabeledTextField("$ ", Main.NORMAL_TEXT_FIELD_COLS)
-                    .attachIntegerObserver(player.getBankSubject())
-                    .build()
-                )
+                .addComponent(bankField.build())
             )
             .addBottom(null, // ROLL/REROLL BUTTON
                 new PanelList(new PanelList.Layout().complete()
@@ -275,6 +435,7 @@ final public class Main {
                         button.setMnemonic('O');
 
                         player.getGameStartableSubject().addObserver((Boolean startable) -> button.setEnabled(startable));
+                        setRunStartedSubject.addObserver((Boolean enabled) -> button.setEnabled(enabled));
 
                         return button;
                     })
@@ -298,50 +459,32 @@ final public class Main {
                         return;
                     }
 
-                    rollClip.setFramePosition(0);
-                    rollClip.start();
+                    audio.play(Main.ROLL_SOUND);
                     player.startGame();
                 }, "STARTBUTTON")
                 .addComponent(new JButton("Roll Dice"), e -> { 
-                    if (rollClip.isActive()) {
-                        rollClip.stop();
-                    }
-                    rollClip.setFramePosition(0);
-                    rollClip.start();
+                    audio.play(Main.ROLL_SOUND);
                     player.continueGame();
                 }, "ROLLBUTTON")
-                .addComponent(new LabeledTextField("Point: ", Main.SHORT_TEXT_FIELD_COLS)
-                    .attachIntegerObserver(player.getPointSubject())
-                    .attachStringObserver(setEmptySubject)
-                    .build()
-                )
+                .addComponent(pointField.build())
             )
             .addBottom("Current Roll",
                 new PanelList(new PanelList.Layout()
                     .margin(Main.SMALL_BOTH_MARGIN)
                 )
-                .addComponent(new LabeledTextField("Die 1: ", Main.LONG_TEXT_FIELD_COLS)
-                    .attachIntegerObserver(player.getDie1Subject())
-                    .attachStringObserver(setEmptySubject)
-                    .build()
-                )
-                .addComponent(new LabeledTextField("Die 2: ", Main.LONG_TEXT_FIELD_COLS)
-                    .attachIntegerObserver(player.getDie2Subject())
-                    .attachStringObserver(setEmptySubject)
-                    .build()
-                )
-                .addComponent(new LabeledTextField("Total: ", Main.LONG_TEXT_FIELD_COLS)
-                    .attachIntegerObserver(player.getDiceTotalSubject())
-                    .attachStringObserver(setEmptySubject)
-                    .build()
-                )
+                .addComponent(die1Field.build())
+                .addComponent(die2Field.build())
+                .addComponent(totalField.build())
                 .addComponent(new PanelList(new PanelList.Layout().complete()
                         .margin(Main.SMALL_BOTH_MARGIN)
                         .direction(Direction.HORIZONTAL)
                         .addTaggedComponentHandler("DIE1", (Component component) -> {
                             DiePanel diePanel = (DiePanel) component;
 
-                            player.getDie1Subject().addObserver((Integer value) -> diePanel.setNumber(value));
+                            // the die tumbles for as long as the roll sound plays
+                            sounds.get(Main.ROLL_SOUND).thenAcceptAsync(
+                                (Sound sound) -> diePanel.setRollDuration(sound.getDuration()), EventQueue::invokeLater
+                            );
                             setZeroSubject.addObserver((Integer number) -> diePanel.setNumber(number));
 
                             return diePanel;
@@ -349,14 +492,17 @@ final public class Main {
                         .addTaggedComponentHandler("DIE2", (Component component) -> {
                             DiePanel diePanel = (DiePanel) component;
 
-                            player.getDie2Subject().addObserver((Integer value) -> diePanel.setNumber(value));
+                            // the die tumbles for as long as the roll sound plays
+                            sounds.get(Main.ROLL_SOUND).thenAcceptAsync(
+                                (Sound sound) -> diePanel.setRollDuration(sound.getDuration()), EventQueue::invokeLater
+                            );
                             setZeroSubject.addObserver((Integer number) -> diePanel.setNumber(number));
 
                             return diePanel;
                         })
                     )
-                    .addComponent(new DiePanel(), "DIE1")
-                    .addComponent(new DiePanel(), "DIE2")
+                    .addComponent(die1Panel, "DIE1")
+                    .addComponent(die2Panel, "DIE2")
                     .build()
                 )
             )
@@ -371,35 +517,12 @@ final public class Main {
                         button.setEnabled(false);
 
                         player.getGameStartableSubject().addObserver((Boolean startable) -> button.setEnabled(startable));
+                        setRunStartedSubject.addObserver((Boolean enabled) -> button.setEnabled(enabled));
                         
                         return button;
                     })
                 )
-                .addComponent(new LabeledTextField("$ ", Main.NORMAL_TEXT_FIELD_COLS, (KeyEvent event) -> {
-                    JTextField textField = (JTextField) event.getSource();
-                    
-                    if (textField.getText().isEmpty()) {
-                        textField.setText("0");
-                        player.setBet(0);
-                    } else {
-                        int amount = player.getBet();
-
-                        if (Character.isDigit(event.getKeyChar())) {
-                            amount = Integer.parseInt(textField.getText() + event.getKeyChar());
-                        } else if ((int) event.getKeyChar() == 8 && !textField.getText().isEmpty()) { // handle backspace
-                            amount = Integer.parseInt(textField.getText());
-                        }
-
-                        player.setBet(amount);
-                    }
-
-                    event.consume();
-                })
-                    .attachIntegerObserver(player.getBetSubject())
-                    .attachEnablerObserver(player.getGameStartableSubject())
-                    .setEnabled(false)
-                    .build()
-                )
+                .addComponent(betField.build())
                 .addComponent(new JButton("+$1"), e -> player.incrementBet(1))
                 .addComponent(new JButton("+$5"), e -> player.incrementBet(5))
                 .addComponent(new JButton("+$10"), e -> player.incrementBet(10))
@@ -407,10 +530,137 @@ final public class Main {
                 .addComponent(new JButton("+$100"), e -> player.incrementBet(100))
                 .addComponent(new JButton("+$500"), e -> player.incrementBet(500))
             )
-            .build()
-        );
+            .addBottom("Auto Play",
+                new PanelList(new PanelList.Layout().complete()
+                    .margin(Main.MINIMAL_VERTICAL_MARGIN)
+                    .addComponentHandler(AutoPlayPanel.class, (Component component) -> {
+                        AutoPlayPanel panel = (AutoPlayPanel) component;
+
+                        autoPlay.getRunningSubject().addObserver((Boolean running) -> panel.setRunning(running));
+                        autoPlay.getProgressSubject().addObserver(
+                            (AutoPlayWorker.Progress progress) -> panel.setProgress(progress.played(), progress.total())
+                        );
+
+                        return panel;
+                    })
+                )
+                .addComponent(autoPlayPanel)
+            )
+            .build();
+
+        // the history sits beside the game screen and keeps the whole session
+        JPanel session = new JPanel(new BorderLayout());
+        session.add(gameScreen, BorderLayout.CENTER);
+        session.add(rollHistory, BorderLayout.EAST);
+        craps.addPanel(session);
 
         // START GAME
+        CompletableFuture<Void> interactive = new CompletableFuture<>();
+        craps.getFrame().addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                startup.mark(Main.FIRST_FRAME);
+
+                // runs once the EDT is done with the first frame and can take input
+                EventQueue.invokeLater(() -> {
+                    startup.mark(Main.FIRST_INTERACTIVE);
+                    interactive.complete(null);
+                });
+            }
+        });
+        interactive.runAfterBoth(assetsReady.exceptionally((Throwable error) -> null), () -> Main.reportStartup(startup));
+
         craps.show();
     }
+
+    /**
+     * Starts auto-play with the games and policy picked in the panel, unless
+     * the player cannot play them.
+     * 
+     * @param player The player.
+     * @param autoPlay The worker that plays the games.
+     * @param panel The panel the games and policy are picked in.
+     */
+    private static void startAutoPlay(ObservedCrapsPlayer player, AutoPlayWorker autoPlay, AutoPlayPanel panel) {
+        if (autoPlay.isRunning()) {
+            return;
+        } else if (player.isPlaying()) {
+            JOptionPane.showMessageDialog(null, "Please finish the current game before auto playing");
+            return;
+        } else if (player.getBank() <= 0) {
+            JOptionPane.showMessageDialog(null, "Please start a game with some money before auto playing");
+            return;
+        }
+
+        BetPolicy policy;
+        try {
+            policy = BetPolicy.parse(panel.getPolicyText());
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(null, e.getMessage());
+            return;
+        }
+
+        autoPlay.start(panel.getGames(), policy);
+    }
+
+    /**
+     * Records a change in the roll history if the dice were rolled.
+     * 
+     * @param history The roll history.
+     * @param change The change of a player.
+     */
+    private static void recordRoll(RollHistoryPanel history, PlayerChange change) {
+        if (!change.has(PlayerChange.DICE)) {
+            return;
+        }
+
+        int result = RollHistoryModel.NO_RESULT;
+        if (change.has(PlayerChange.RESULT)) {
+            result = (change.result() == WinState.WON) ? RollHistoryModel.WON : RollHistoryModel.LOST;
+        }
+
+        history.record(
+            change.dice().myDie1,
+            change.dice().myDie2,
+            change.has(PlayerChange.POINT) ? change.point() : 0,
+            result
+        );
+    }
+
+    /**
+     * Decodes a sound asset into the audio engine.
+     * 
+     * @param audio The audio engine.
+     * @param name The name of the sound.
+     * @return The sound.
+     */
+    private static Sound loadSound(AudioEngine audio, String name) {
+        try {
+            return audio.load(name, Main.class.getResourceAsStream(Main.SOUND_PATH + name + ".wav"));
+        } catch (IOException | UnsupportedAudioFileException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Reports the startup milestones on standard error if the
+     * craps.startup.print property is true, and appends them to the CSV file
+     * named by the craps.startup.log property if it is set.
+     * 
+     * @param startup The startup timeline.
+     */
+    private static void reportStartup(Timeline startup) {
+        if (Boolean.getBoolean(Main.STARTUP_PRINT_PROPERTY)) {
+            System.err.println("Startup: " + startup);
+        }
+
+        String log = System.getProperty(Main.STARTUP_LOG_PROPERTY);
+        if (log != null) {
+            try {
+                startup.appendCsv(Path.of(log), Main.VERSION);
+            } catch (IOException e) {
+                System.err.println("Could not write the startup log: " + e.getMessage());
+            }
+        }
+    }
 }
@@ -0,0 +1,260 @@
+package controller.audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * An AudioEngine plays sounds through a single SourceDataLine. Sounds are
+ * decoded into memory once when they are loaded, and a dedicated thread
+ * mixes every playing voice into short blocks and writes them to the line,
+ * so playing a sound from any thread only queues a request and returns.
+ *
+ * The line's buffer holds a few blocks, which bounds how long a sound waits
+ * behind audio that was already written. If no line can be opened, the
+ * engine stays silent and requests to play are ignored.
+ */
+public class AudioEngine implements AutoCloseable {
+    /** The format sounds are decoded into and played in. */
+    public static final AudioFormat FORMAT = new AudioFormat(48_000f, 16, 2, true, false);
+    /** How many blocks the line buffers. */
+    private static final int BUFFERED_BLOCKS = 4;
+
+    /** Mixes the playing voices. */
+    private final VoiceMixer myMixer;
+    /** The loaded sounds by name. */
+    private final Map<String, Sound> mySounds;
+    /** How many frames are mixed at a time. */
+    private final int myBlockFrames;
+    /** The line the mix is written to (null if the engine is silent). */
+    private SourceDataLine myLine;
+    /** The thread that mixes and writes blocks. */
+    private Thread myThread;
+    /** Whether the mixing thread should keep running. */
+    private volatile boolean myRunning;
+
+    /**
+     * Constructs an AudioEngine. It stays silent until it is started.
+     *
+     * @param voices How many sounds may play at once.
+     * @param block How much audio is mixed at a time.
+     */
+    public AudioEngine(int voices, Duration block) {
+        this.myMixer = new VoiceMixer(voices, AudioEngine.FORMAT.getChannels());
+        this.mySounds = new ConcurrentHashMap<>();
+        this.myBlockFrames = (int) Math.max(1, block.toNanos() * AudioEngine.FORMAT.getFrameRate() / 1_000_000_000L);
+        this.myLine = null;
+        this.myThread = null;
+        this.myRunning = false;
+    }
+
+    /**
+     * Decodes an audio file and keeps it under the given name.
+     *
+     * @param name The name of the sound.
+     * @param in The audio file.
+     * @return The sound.
+     * @throws IOException If the file cannot be read.
+     * @throws UnsupportedAudioFileException If the file cannot be decoded.
+     */
+    public Sound load(String name, InputStream in) throws IOException, UnsupportedAudioFileException {
+        if (in == null) {
+            throw new IOException("Sound " + name + " was not found");
+        }
+
+        Sound sound = Sound.decode(name, in, AudioEngine.FORMAT);
+        this.mySounds.put(name, sound);
+
+        return sound;
+    }
+
+    /**
+     * Gets a loaded sound.
+     *
+     * @param name The name of the sound.
+     * @return The sound (null if no sound has that name).
+     */
+    public Sound getSound(String name) {
+        return this.mySounds.get(name);
+    }
+
+    /**
+     * Opens the line and starts the mixing thread.
+     *
+     * @return True if sounds will be heard, false if no line could be opened.
+     */
+    public synchronized boolean start() {
+        if (this.myRunning) {
+            return true;
+        }
+
+        int blockBytes = this.myBlockFrames * AudioEngine.FORMAT.getFrameSize();
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(AudioEngine.FORMAT);
+            line.open(AudioEngine.FORMAT, AudioEngine.BUFFERED_BLOCKS * blockBytes);
+            line.start();
+            this.myLine = line;
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            return false;
+        }
+
+        this.myRunning = true;
+        this.myThread = new Thread(this::run, "audio-mixer");
+        this.myThread.setDaemon(true);
+        this.myThread.setPriority(Thread.MAX_PRIORITY);
+        this.myThread.start();
+
+        return true;
+    }
+
+    /**
+     * Checks if sounds are heard.
+     *
+     * @return True if the engine is started with an open line.
+     */
+    public boolean isAudible() {
+        return this.myRunning;
+    }
+
+    /**
+     * Plays a sound at its own volume. Returns right away.
+     *
+     * @param sound The sound.
+     */
+    public void play(Sound sound) {
+        this.play(sound, 1);
+    }
+
+    /**
+     * Plays a sound. Returns right away, and does nothing if the engine is
+     * silent.
+     *
+     * @param sound The sound.
+     * @param gain The volume to play at (1 is unchanged).
+     */
+    public void play(Sound sound, float gain) {
+        if (this.myRunning) {
+            this.myMixer.play(sound, gain);
+        }
+    }
+
+    /**
+     * Plays a loaded sound at its own volume. Returns right away, and does
+     * nothing if no sound with that name is loaded yet.
+     *
+     * @param name The name of the sound.
+     */
+    public void play(String name) {
+        Sound sound = this.mySounds.get(name);
+        if (sound != null) {
+            this.play(sound);
+        }
+    }
+
+    /**
+     * Stops every voice playing a sound. Returns right away.
+     *
+     * @param sound The sound.
+     */
+    public void stop(Sound sound) {
+        if (this.myRunning) {
+            this.myMixer.stop(sound);
+        }
+    }
+
+    /**
+     * Stops every voice playing a loaded sound. Returns right away.
+     *
+     * @param name The name of the sound.
+     */
+    public void stop(String name) {
+        Sound sound = this.mySounds.get(name);
+        if (sound != null) {
+            this.stop(sound);
+        }
+    }
+
+    /**
+     * Gets the mixer, which keeps the playback statistics.
+     *
+     * @return The mixer.
+     */
+    public VoiceMixer getMixer() {
+        return this.myMixer;
+    }
+
+    /**
+     * Gets the average time from a request to play to its first frame being
+     * heard.
+     *
+     * @return The latency.
+     */
+    public Duration getMeanLatency() {
+        return this.myMixer.getMeanLatency();
+    }
+
+    /**
+     * Gets the longest time from a request to play to its first frame being
+     * heard.
+     *
+     * @return The latency.
+     */
+    public Duration getMaxLatency() {
+        return this.myMixer.getMaxLatency();
+    }
+
+    /**
+     * Mixes blocks and writes them to the line until the engine is closed.
+     * Writing waits while the line is full, which paces the thread to the
+     * sound card. Silence is written when nothing plays, so the line never
+     * runs dry and a new sound is only ever queued behind a few blocks.
+     */
+    private void run() {
+        SourceDataLine line = this.myLine;
+        int frameSize = AudioEngine.FORMAT.getFrameSize();
+        double nanosPerFrame = 1_000_000_000.0 / AudioEngine.FORMAT.getFrameRate();
+        short[] samples = new short[this.myBlockFrames * AudioEngine.FORMAT.getChannels()];
+        byte[] bytes = new byte[samples.length * 2];
+
+        while (this.myRunning) {
+            long queuedFrames = (line.getBufferSize() - line.available()) / frameSize;
+            long heardAt = System.nanoTime() + (long) (queuedFrames * nanosPerFrame);
+
+            this.myMixer.mix(samples, this.myBlockFrames, heardAt);
+            for (int i = 0; i < samples.length; i++) {
+                bytes[2 * i] = (byte) samples[i];
+                bytes[2 * i + 1] = (byte) (samples[i] >> 8);
+            }
+
+            line.write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Stops the mixing thread and closes the line.
+     */
+    @Override
+    public synchronized void close() {
+        if (!this.myRunning) {
+            return;
+        }
+
+        this.myRunning = false;
+        this.myLine.flush();
+        try {
+            // a write blocked on a full line ends once the line drains the block
+            this.myThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.myLine.close();
+    }
+}
@@ -0,0 +1,151 @@
+package controller.audio;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * A Sound is an audio asset decoded once into 16 bit PCM samples, ready to be
+ * mixed without touching the file or the decoder again.
+ */
+public final class Sound {
+    /** The name of the sound. */
+    private final String myName;
+    /** The samples, with the channels of a frame next to each other. */
+    private final short[] mySamples;
+    /** The amount of channels. */
+    private final int myChannels;
+    /** The frames per second. */
+    private final float mySampleRate;
+
+    /**
+     * Constructs a Sound.
+     *
+     * @param name The name of the sound.
+     * @param samples The samples, with the channels of a frame next to each
+     * other.
+     * @param channels The amount of channels.
+     * @param sampleRate The frames per second.
+     */
+    public Sound(String name, short[] samples, int channels, float sampleRate) {
+        if (channels <= 0 || samples.length % channels != 0) {
+            throw new IllegalArgumentException("Samples must hold whole frames of a positive amount of channels");
+        } else if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+
+        this.myName = name;
+        this.mySamples = samples;
+        this.myChannels = channels;
+        this.mySampleRate = sampleRate;
+    }
+
+    /**
+     * Decodes an audio file into the given format. The file may have any bit
+     * depth, sample rate or amount of channels the platform can convert.
+     *
+     * @param name The name of the sound.
+     * @param in The audio file.
+     * @param format The format to decode into (16 bit signed little-endian
+     * PCM).
+     * @return The sound.
+     * @throws IOException If the file cannot be read.
+     * @throws UnsupportedAudioFileException If the file cannot be decoded
+     * into the format.
+     */
+    public static Sound decode(String name, InputStream in, AudioFormat format)
+            throws IOException, UnsupportedAudioFileException {
+        if (format.getSampleSizeInBits() != 16 || format.isBigEndian()
+                || format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED) {
+            throw new IllegalArgumentException("Sounds are decoded into 16 bit signed little-endian PCM");
+        }
+
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in))) {
+            AudioFormat sourceFormat = source.getFormat();
+
+            // first the bit depth and encoding, then the sample rate and channels
+            AudioFormat pcm = new AudioFormat(
+                sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(), true, false
+            );
+            byte[] bytes;
+            try (AudioInputStream decoded = AudioSystem.getAudioInputStream(pcm, source);
+                 AudioInputStream converted = AudioSystem.getAudioInputStream(format, decoded)) {
+                bytes = converted.readAllBytes();
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedAudioFileException("Cannot convert " + name + " to " + format);
+            }
+
+            short[] samples = new short[bytes.length / 2];
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = (short) ((bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] << 8));
+            }
+
+            return new Sound(name, samples, format.getChannels(), format.getSampleRate());
+        }
+    }
+
+    /**
+     * Gets the name of the sound.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return this.myName;
+    }
+
+    /**
+     * Gets the samples. Must not be modified.
+     *
+     * @return The samples, with the channels of a frame next to each other.
+     */
+    short[] getSamples() {
+        return this.mySamples;
+    }
+
+    /**
+     * Gets the amount of channels.
+     *
+     * @return The amount of channels.
+     */
+    public int getChannels() {
+        return this.myChannels;
+    }
+
+    /**
+     * Gets the frames per second.
+     *
+     * @return The sample rate.
+     */
+    public float getSampleRate() {
+        return this.mySampleRate;
+    }
+
+    /**
+     * Gets the amount of frames.
+     *
+     * @return The amount of frames.
+     */
+    public int getFrameCount() {
+        return this.mySamples.length / this.myChannels;
+    }
+
+    /**
+     * Gets how long the sound plays.
+     *
+     * @return The duration.
+     */
+    public Duration getDuration() {
+        return Duration.ofNanos((long) (this.getFrameCount() * 1_000_000_000.0 / this.mySampleRate));
+    }
+
+    @Override
+    public String toString() {
+        return this.myName;
+    }
+}
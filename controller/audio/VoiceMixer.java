@@ -0,0 +1,269 @@
+package controller.audio;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A VoiceMixer mixes a fixed pool of voices, each playing a Sound, into
+ * blocks of 16 bit samples. Sounds may be played and stopped from any thread;
+ * the requests are queued and picked up by the thread that mixes the next
+ * block, so nobody ever waits for the mixer. When every voice is busy, the
+ * voice that started first is taken over.
+ *
+ * The mixer also measures the latency of every sound: the time from the
+ * request to the moment its first frame is heard.
+ */
+public final class VoiceMixer {
+    /**
+     * A Command asks the mixer to play or stop a sound.
+     *
+     * @param sound The sound.
+     * @param gain The volume to play at (1 is unchanged).
+     * @param requested When the command was made (System.nanoTime()).
+     * @param stop Whether to stop every voice playing the sound.
+     */
+    private record Command(Sound sound, float gain, long requested, boolean stop) {}
+
+    /** The amount of channels of a frame. */
+    private final int myChannels;
+    /** The sound each voice plays (null if the voice is free). */
+    private final Sound[] myVoices;
+    /** The next sample each voice plays. */
+    private final int[] myPositions;
+    /** The volume of each voice, in 1/256ths. */
+    private final int[] myGains;
+    /** When each voice started, in order of starting. */
+    private final long[] myStarts;
+    /** How many voices were started. */
+    private long myStarted;
+    /** The requests not picked up yet. */
+    private final Queue<Command> myCommands;
+    /** The sum of the voices before clipping. */
+    private int[] myMix;
+
+    /** How many sounds started playing. */
+    private final LongAdder myPlayed;
+    /** How many voices were taken over while still playing. */
+    private final LongAdder myStolen;
+    /** The sum of the latencies, in nanoseconds. */
+    private final LongAdder myLatencySum;
+    /** The highest latency, in nanoseconds. */
+    private final AtomicLong myMaxLatency;
+
+    /**
+     * Constructs a VoiceMixer.
+     *
+     * @param voices How many sounds may play at once.
+     * @param channels The amount of channels of a frame.
+     */
+    public VoiceMixer(int voices, int channels) {
+        if (voices <= 0 || channels <= 0) {
+            throw new IllegalArgumentException("Voices and channels must be positive");
+        }
+
+        this.myChannels = channels;
+        this.myVoices = new Sound[voices];
+        this.myPositions = new int[voices];
+        this.myGains = new int[voices];
+        this.myStarts = new long[voices];
+        this.myStarted = 0;
+        this.myCommands = new ConcurrentLinkedQueue<>();
+        this.myMix = new int[0];
+        this.myPlayed = new LongAdder();
+        this.myStolen = new LongAdder();
+        this.myLatencySum = new LongAdder();
+        this.myMaxLatency = new AtomicLong();
+    }
+
+    /**
+     * Asks for a sound to be played from the next block on. May be called
+     * from any thread.
+     *
+     * @param sound The sound.
+     * @param gain The volume to play at (1 is unchanged).
+     */
+    public void play(Sound sound, float gain) {
+        if (sound.getChannels() != this.myChannels) {
+            throw new IllegalArgumentException("Sound " + sound + " does not have " + this.myChannels + " channels");
+        } else if (gain < 0) {
+            throw new IllegalArgumentException("Gain must not be negative");
+        }
+
+        this.myCommands.add(new Command(sound, gain, System.nanoTime(), false));
+    }
+
+    /**
+     * Asks for every voice playing a sound to stop from the next block on.
+     * May be called from any thread.
+     *
+     * @param sound The sound.
+     */
+    public void stop(Sound sound) {
+        this.myCommands.add(new Command(sound, 0, System.nanoTime(), true));
+    }
+
+    /**
+     * Mixes the next block. Must only be called by one thread at a time.
+     *
+     * @param out The samples to write, with the channels of a frame next to
+     * each other.
+     * @param frames How many frames to write.
+     * @param heardAt When the first frame of the block will be heard
+     * (System.nanoTime()).
+     * @return How many voices are still playing.
+     */
+    public int mix(short[] out, int frames, long heardAt) {
+        int length = frames * this.myChannels;
+        if (length > out.length) {
+            throw new IllegalArgumentException("Block does not fit " + frames + " frames");
+        } else if (this.myMix.length < length) {
+            this.myMix = new int[length];
+        }
+
+        Command command;
+        while ((command = this.myCommands.poll()) != null) {
+            if (command.stop()) {
+                this.stopVoices(command.sound());
+            } else {
+                this.startVoice(command, heardAt);
+            }
+        }
+
+        int[] mix = this.myMix;
+        Arrays.fill(mix, 0, length, 0);
+
+        int playing = 0;
+        for (int voice = 0; voice < this.myVoices.length; voice++) {
+            Sound sound = this.myVoices[voice];
+            if (sound == null) {
+                continue;
+            }
+
+            short[] samples = sound.getSamples();
+            int position = this.myPositions[voice];
+            int count = Math.min(length, samples.length - position);
+            int gain = this.myGains[voice];
+
+            if (gain == 256) {
+                for (int i = 0; i < count; i++) {
+                    mix[i] += samples[position + i];
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    mix[i] += (samples[position + i] * gain) >> 8;
+                }
+            }
+
+            if (position + count >= samples.length) {
+                this.myVoices[voice] = null;
+            } else {
+                this.myPositions[voice] = position + count;
+                playing++;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            out[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+        }
+
+        return playing;
+    }
+
+    /**
+     * Starts a voice, taking over the oldest one if none is free.
+     *
+     * @param command The request to play.
+     * @param heardAt When the voice's first frame will be heard.
+     */
+    private void startVoice(Command command, long heardAt) {
+        int voice = 0;
+        for (int i = 0; i < this.myVoices.length; i++) {
+            if (this.myVoices[i] == null) {
+                voice = i;
+                break;
+            } else if (this.myStarts[i] < this.myStarts[voice]) {
+                voice = i;
+            }
+        }
+
+        if (this.myVoices[voice] != null) {
+            this.myStolen.increment();
+        }
+
+        this.myVoices[voice] = command.sound();
+        this.myPositions[voice] = 0;
+        this.myGains[voice] = Math.round(command.gain() * 256);
+        this.myStarts[voice] = this.myStarted++;
+
+        long latency = Math.max(heardAt - command.requested(), 0);
+        this.myPlayed.increment();
+        this.myLatencySum.add(latency);
+        this.myMaxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Stops every voice playing a sound.
+     *
+     * @param sound The sound.
+     */
+    private void stopVoices(Sound sound) {
+        for (int i = 0; i < this.myVoices.length; i++) {
+            if (this.myVoices[i] == sound) {
+                this.myVoices[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Gets how many sounds may play at once.
+     *
+     * @return The amount of voices.
+     */
+    public int getVoiceCount() {
+        return this.myVoices.length;
+    }
+
+    /**
+     * Gets how many sounds started playing.
+     *
+     * @return The amount of sounds.
+     */
+    public long getPlayedCount() {
+        return this.myPlayed.sum();
+    }
+
+    /**
+     * Gets how many voices were taken over while still playing.
+     *
+     * @return The amount of voices.
+     */
+    public long getStolenCount() {
+        return this.myStolen.sum();
+    }
+
+    /**
+     * Gets the average time from a request to play to its first frame being
+     * heard.
+     *
+     * @return The latency (zero if nothing was played).
+     */
+    public Duration getMeanLatency() {
+        long played = this.myPlayed.sum();
+
+        return (played == 0) ? Duration.ZERO : Duration.ofNanos(this.myLatencySum.sum() / played);
+    }
+
+    /**
+     * Gets the longest time from a request to play to its first frame being
+     * heard.
+     *
+     * @return The latency (zero if nothing was played).
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(this.myMaxLatency.get());
+    }
+}
@@ -0,0 +1,73 @@
+package controller.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * HeadlessMain plays craps without a window or sound, for servers and CI
+ * containers. It only uses the model, so no AWT or Swing class is loaded.
+ */
+public final class HeadlessMain {
+    /** The exit status of a failed script. */
+    private static final int SCRIPT_FAILED = 1;
+    /** The exit status of invalid options. */
+    private static final int INVALID_OPTIONS = 2;
+    /** The size of the output buffer. */
+    private static final int OUTPUT_BUFFER = 1 << 16;
+
+    /**
+     * Prevents instances.
+     */
+    private HeadlessMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        HeadlessOptions options;
+        try {
+            options = HeadlessOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(HeadlessOptions.USAGE);
+            System.exit(HeadlessMain.INVALID_OPTIONS);
+            return;
+        }
+
+        if (options.help()) {
+            System.out.println(HeadlessOptions.USAGE);
+            return;
+        }
+
+        // records are flushed after every session instead of every line
+        PrintStream out = new PrintStream(
+            new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), HeadlessMain.OUTPUT_BUFFER),
+            false, StandardCharsets.UTF_8
+        );
+        HeadlessRunner runner = new HeadlessRunner(
+            out, options.format(), options.summaryOnly(), options.policy(), options.seed()
+        );
+
+        if (options.script() == null) {
+            runner.runSessions(options.sessions(), options.bank(), options.games());
+            return;
+        }
+
+        boolean succeeded;
+        try (BufferedReader script = options.script().equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(options.script()), StandardCharsets.UTF_8)) {
+            succeeded = runner.runScript(script, options.bank());
+        }
+
+        if (!succeeded) {
+            System.exit(HeadlessMain.SCRIPT_FAILED);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package controller.cli;
+
+import model.BetPolicy;
+
+/**
+ * HeadlessOptions are the command line flags of the headless mode.
+ *
+ * @param bank The bank every session starts with.
+ * @param policy Decides the bet of every game.
+ * @param games The most games played per session (a session also ends when
+ * the bank is empty).
+ * @param sessions How many sessions to play.
+ * @param format How the records are written.
+ * @param seed The seed of the dice (null for a random seed).
+ * @param script The script to run instead of sessions ("-" for standard
+ * input, null to play sessions).
+ * @param summaryOnly Whether only the summary of each session is written.
+ * @param help Whether the usage was asked for.
+ */
+public record HeadlessOptions(int bank, BetPolicy policy, int games, int sessions, OutputFormat format,
+                              Long seed, String script, boolean summaryOnly, boolean help) {
+    /** How the flags are used. */
+    public static final String USAGE = String.join(System.lineSeparator(),
+        "Usage: controller.cli.HeadlessMain [options]",
+        "",
+        "Plays craps without a window and writes the results to standard output.",
+        "",
+        "  --bank N           starting bank of every session (default 1000)",
+        "  --bet POLICY       flat:AMOUNT, martingale:BASE or fraction:SHARE (default flat:10)",
+        "  --games N          most games per session; a session also ends when busted (default 100)",
+        "  --sessions N       sessions to play (default 1)",
+        "  --format FORMAT    text, csv or json (default text)",
+        "  --seed N           seed of the dice, for repeatable runs",
+        "  --summary          only write the summary of each session",
+        "  --script FILE      run the commands in FILE (- for standard input) instead of sessions",
+        "  --help             show this message",
+        "",
+        "Script commands, one per line (# starts a comment):",
+        "  bank N | bet N | policy POLICY | seed N | start | roll | play [N] | summary"
+    );
+
+    /**
+     * Parses the command line flags. Every flag takes its value either as the
+     * next argument or after an equals sign, such as --bank=500.
+     *
+     * @param args The arguments.
+     * @return The options.
+     */
+    public static HeadlessOptions parse(String[] args) {
+        int bank = 1000;
+        BetPolicy policy = BetPolicy.flat(10);
+        int games = 100;
+        int sessions = 1;
+        OutputFormat format = OutputFormat.TEXT;
+        Long seed = null;
+        String script = null;
+        boolean summaryOnly = false;
+        boolean help = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            String value = null;
+
+            int equals = flag.indexOf('=');
+            if (equals >= 0) {
+                value = flag.substring(equals + 1);
+                flag = flag.substring(0, equals);
+            }
+
+            if (flag.equals("--help") || flag.equals("-h")) {
+                help = true;
+                continue;
+            } else if (flag.equals("--summary")) {
+                summaryOnly = true;
+                continue;
+            }
+
+            if (value == null) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value of " + flag);
+                }
+                value = args[++i];
+            }
+
+            switch (flag) {
+                case "--bank":
+                    bank = HeadlessOptions.parsePositive(flag, value);
+                    break;
+                case "--bet":
+                    policy = BetPolicy.parse(value);
+                    break;
+                case "--games":
+                    games = HeadlessOptions.parsePositive(flag, value);
+                    break;
+                case "--sessions":
+                    sessions = HeadlessOptions.parsePositive(flag, value);
+                    break;
+                case "--format":
+                    format = OutputFormat.parse(value);
+                    break;
+                case "--seed":
+                    seed = HeadlessOptions.parseSeed(value);
+                    break;
+                case "--script":
+                    script = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + flag);
+            }
+        }
+
+        return new HeadlessOptions(bank, policy, games, sessions, format, seed, script, summaryOnly, help);
+    }
+
+    /**
+     * Parses a positive number.
+     *
+     * @param name What the number is for.
+     * @param value The number.
+     * @return The number.
+     */
+    static int parsePositive(String name, String value) {
+        int number;
+        try {
+            number = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number, got \"" + value + "\"");
+        }
+
+        if (number <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, got " + number);
+        }
+
+        return number;
+    }
+
+    /**
+     * Parses the seed of the dice.
+     *
+     * @param value The seed.
+     * @return The seed.
+     */
+    static long parseSeed(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Seed must be a number, got \"" + value + "\"");
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package controller.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+import model.BetPolicy;
+import model.ObservedCrapsPlayer;
+import model.PlayerChange;
+import model.RandomGenerators;
+import model.WinState;
+import model.sim.AutoPlayer;
+
+/**
+ * HeadlessRunner drives an ObservedCrapsPlayer without a window, either
+ * through sessions of games bet by a policy or through a script, and writes
+ * what happens as records. The records come from the player's change
+ * subject, so they describe exactly what a window would have shown.
+ */
+public class HeadlessRunner {
+    /** Where the records are written. */
+    private final PrintStream myOut;
+    /** How the records are written. */
+    private final OutputFormat myFormat;
+    /** Whether only the summary of each session is written. */
+    private final boolean mySummaryOnly;
+    /** The player. */
+    private final ObservedCrapsPlayer myPlayer;
+    /** Plays whole games for the player. */
+    private final AutoPlayer myAutoPlayer;
+    /** Splits off the dice of every session. */
+    private SplittableGenerator myRandom;
+
+    /** Whether rolls are written. */
+    private boolean myWritingRolls;
+    /** The current session. */
+    private int mySession;
+    /** The games finished in the current session. */
+    private int myGames;
+    /** The rolls of the current game. */
+    private int myGameRolls;
+    /** The rolls of the current session. */
+    private long mySessionRolls;
+    /** The point of the current game (0 if none is set). */
+    private int myPoint;
+
+    /**
+     * Constructs a HeadlessRunner.
+     *
+     * @param out Where the records are written.
+     * @param format How the records are written.
+     * @param summaryOnly Whether only the summary of each session is written.
+     * @param policy Decides the bet of every game.
+     * @param seed The seed of the dice (null for a random seed).
+     */
+    public HeadlessRunner(PrintStream out, OutputFormat format, boolean summaryOnly, BetPolicy policy, Long seed) {
+        this.myOut = out;
+        this.myFormat = format;
+        this.mySummaryOnly = summaryOnly;
+        this.myPlayer = new ObservedCrapsPlayer();
+        this.myAutoPlayer = new AutoPlayer(this.myPlayer, policy);
+        this.myRandom = (seed == null) ? RandomGenerators.splittable() : RandomGenerators.splittable(seed);
+        this.myWritingRolls = false;
+        this.mySession = 0;
+
+        this.myPlayer.getChangeSubject().addObserver(this::record);
+    }
+
+    /**
+     * Writes the records of a change of the player.
+     *
+     * @param change The change.
+     */
+    private void record(PlayerChange change) {
+        if (change.has(PlayerChange.POINT)) {
+            this.myPoint = change.point();
+        }
+
+        if (change.has(PlayerChange.DICE)) {
+            this.myGameRolls++;
+            this.mySessionRolls++;
+
+            if (this.myWritingRolls && !this.mySummaryOnly) {
+                this.myOut.println(this.myFormat.roll(
+                    this.mySession, this.myGames + 1, change.dice().myDie1, change.dice().myDie2,
+                    this.myPoint, change.bank()
+                ));
+            }
+        }
+
+        if (change.has(PlayerChange.RESULT)) {
+            this.myGames++;
+
+            if (!this.mySummaryOnly) {
+                this.myOut.println(this.myFormat.game(
+                    this.mySession, this.myGames, change.result(), this.myPlayer.getMyLastBet(),
+                    this.myGameRolls, change.bank(), change.wins(), change.losses()
+                ));
+            }
+
+            // a game decided on the come-out roll never changes the game state
+            this.resetGame();
+        }
+    }
+
+    /**
+     * Forgets the rolls and the point of the current game.
+     */
+    private void resetGame() {
+        this.myGameRolls = 0;
+        this.myPoint = 0;
+    }
+
+    /**
+     * Starts a new session with the given bank and its own dice.
+     *
+     * @param bank The bank.
+     */
+    private void startSession(int bank) {
+        this.mySession++;
+        this.myGames = 0;
+        this.mySessionRolls = 0;
+        this.resetGame();
+
+        this.myPlayer.setRandomGenerator(this.myRandom.split());
+        this.myPlayer.reinitialize(bank);
+        this.myAutoPlayer.reset();
+    }
+
+    /**
+     * Writes the summary of the current session.
+     */
+    private void writeSummary() {
+        this.myOut.println(this.myFormat.session(
+            this.mySession, this.myGames, this.mySessionRolls,
+            this.myPlayer.getBank(), this.myPlayer.getMyWins(), this.myPlayer.getMyLosses()
+        ));
+    }
+
+    /**
+     * Writes the header of the format, if it has one.
+     */
+    private void writeHeader() {
+        String header = this.myFormat.header();
+        if (header != null) {
+            this.myOut.println(header);
+        }
+    }
+
+    /**
+     * Plays sessions of games bet by the policy. A session ends after the
+     * given amount of games or once the bank is empty.
+     *
+     * @param sessions How many sessions to play.
+     * @param bank The bank every session starts with.
+     * @param games The most games played per session.
+     */
+    public void runSessions(int sessions, int bank, int games) {
+        this.writeHeader();
+
+        for (int session = 0; session < sessions; session++) {
+            this.startSession(bank);
+            while (this.myGames < games && this.myAutoPlayer.playGame() != WinState.ONGOING) {
+                // every game is written by the change observer
+            }
+
+            this.writeSummary();
+            this.myOut.flush();
+        }
+    }
+
+    /**
+     * Runs a script of commands as one session, then writes its summary.
+     * Stops at the first command that fails and reports it on standard
+     * error.
+     *
+     * @param script The script.
+     * @param bank The bank the session starts with.
+     * @return True if every command succeeded.
+     * @throws IOException If the script cannot be read.
+     */
+    public boolean runScript(BufferedReader script, int bank) throws IOException {
+        this.writeHeader();
+        this.startSession(bank);
+
+        String line;
+        int lineNumber = 0;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+
+            int comment = line.indexOf('#');
+            String command = ((comment >= 0) ? line.substring(0, comment) : line).trim();
+            if (command.isEmpty()) {
+                continue;
+            }
+
+            try {
+                this.runCommand(command.split("\\s+"));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                this.myOut.flush();
+                System.err.println("script:" + lineNumber + ": " + e.getMessage());
+                return false;
+            }
+        }
+
+        this.writeSummary();
+        this.myOut.flush();
+
+        return true;
+    }
+
+    /**
+     * Runs one script command.
+     *
+     * @param words The command and its arguments.
+     */
+    private void runCommand(String[] words) {
+        String argument = (words.length > 1) ? words[1] : null;
+        if (words.length > 2) {
+            throw new IllegalArgumentException("Too many arguments for " + words[0]);
+        }
+
+        switch (words[0]) {
+            case "bank":
+                this.myPlayer.reinitialize(HeadlessOptions.parsePositive("bank", HeadlessRunner.require(words)));
+                this.myAutoPlayer.reset();
+                this.resetGame();
+                break;
+            case "bet":
+                this.myPlayer.setBet(HeadlessOptions.parsePositive("bet", HeadlessRunner.require(words)));
+                break;
+            case "policy":
+                this.myAutoPlayer.setPolicy(BetPolicy.parse(HeadlessRunner.require(words)));
+                break;
+            case "seed":
+                this.myRandom = RandomGenerators.splittable(HeadlessOptions.parseSeed(HeadlessRunner.require(words)));
+                this.myPlayer.setRandomGenerator(this.myRandom.split());
+                break;
+            case "start":
+                this.myWritingRolls = true;
+                try {
+                    this.myPlayer.startGame();
+                } finally {
+                    this.myWritingRolls = false;
+                }
+                break;
+            case "roll":
+                this.myWritingRolls = true;
+                try {
+                    this.myPlayer.continueGame();
+                } finally {
+                    this.myWritingRolls = false;
+                }
+                break;
+            case "play":
+                int games = (argument == null) ? 1 : HeadlessOptions.parsePositive("play", argument);
+                for (int game = 0; game < games && this.myAutoPlayer.playGame() != WinState.ONGOING; game++) {
+                    // every game is written by the change observer
+                }
+                break;
+            case "summary":
+                this.writeSummary();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command \"" + words[0] + "\"");
+        }
+    }
+
+    /**
+     * Gets the argument of a command that needs one.
+     *
+     * @param words The command and its arguments.
+     * @return The argument.
+     */
+    private static String require(String[] words) {
+        if (words.length < 2) {
+            throw new IllegalArgumentException(words[0] + " needs a value");
+        }
+
+        return words[1];
+    }
+}
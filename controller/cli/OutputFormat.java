@@ -0,0 +1,126 @@
+package controller.cli;
+
+import model.WinState;
+
+/**
+ * OutputFormat writes the records of a headless run as lines. Every format
+ * has the same three kinds of records: a roll of the dice, a finished game
+ * and the summary of a session. The machine readable formats are built by
+ * concatenation rather than String.format, since a batch run writes millions
+ * of them.
+ */
+public enum OutputFormat {
+    /** Lines meant to be read by people. */
+    TEXT,
+    /** Comma separated values with one header shared by every kind of record. */
+    CSV,
+    /** One JSON object per line. */
+    JSON;
+
+    /** The columns of every CSV record. */
+    private static final String CSV_HEADER = "record,session,game,result,bet,rolls,bank,wins,losses,die1,die2,point";
+
+    /**
+     * Parses the name of a format, ignoring case.
+     *
+     * @param name The name ("text", "csv" or "json").
+     * @return The format.
+     */
+    public static OutputFormat parse(String name) {
+        for (OutputFormat format : OutputFormat.values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown output format \"" + name + "\" (use text, csv or json)");
+    }
+
+    /**
+     * Gets the line written before any record.
+     *
+     * @return The line (null if the format has none).
+     */
+    public String header() {
+        return (this == OutputFormat.CSV) ? OutputFormat.CSV_HEADER : null;
+    }
+
+    /**
+     * Formats a roll of the dice.
+     *
+     * @param session The session.
+     * @param game The game within the session.
+     * @param die1 Die #1.
+     * @param die2 Die #2.
+     * @param point The point after the roll (0 if none is set).
+     * @param bank The bank after the roll.
+     * @return The line.
+     */
+    public String roll(int session, int game, int die1, int die2, int point, int bank) {
+        switch (this) {
+            case CSV:
+                return "roll," + session + "," + game + ",,,," + bank + ",,," + die1 + "," + die2 + "," + point;
+            case JSON:
+                return "{\"record\":\"roll\",\"session\":" + session + ",\"game\":" + game
+                     + ",\"die1\":" + die1 + ",\"die2\":" + die2 + ",\"point\":" + point + ",\"bank\":" + bank + "}";
+            case TEXT:
+            default:
+                return String.format("session %d game %d: rolled %d + %d = %d%s",
+                    session, game, die1, die2, die1 + die2, (point > 0) ? " (point " + point + ")" : "");
+        }
+    }
+
+    /**
+     * Formats a finished game.
+     *
+     * @param session The session.
+     * @param game The game within the session.
+     * @param result The outcome.
+     * @param bet The bet.
+     * @param rolls How many times the dice were rolled.
+     * @param bank The bank after the game.
+     * @param wins The wins after the game.
+     * @param losses The losses after the game.
+     * @return The line.
+     */
+    public String game(int session, int game, WinState result, int bet, int rolls, int bank, int wins, int losses) {
+        switch (this) {
+            case CSV:
+                return "game," + session + "," + game + "," + result + "," + bet + "," + rolls + ","
+                     + bank + "," + wins + "," + losses + ",,,";
+            case JSON:
+                return "{\"record\":\"game\",\"session\":" + session + ",\"game\":" + game
+                     + ",\"result\":\"" + result + "\",\"bet\":" + bet + ",\"rolls\":" + rolls
+                     + ",\"bank\":" + bank + ",\"wins\":" + wins + ",\"losses\":" + losses + "}";
+            case TEXT:
+            default:
+                return String.format("session %d game %d: %s $%d after %d rolls, bank $%d (%d-%d)",
+                    session, game, (result == WinState.WON) ? "won" : "lost", bet, rolls, bank, wins, losses);
+        }
+    }
+
+    /**
+     * Formats the summary of a session.
+     *
+     * @param session The session.
+     * @param games How many games were played.
+     * @param rolls How many times the dice were rolled.
+     * @param bank The bank at the end.
+     * @param wins The wins at the end.
+     * @param losses The losses at the end.
+     * @return The line.
+     */
+    public String session(int session, int games, long rolls, int bank, int wins, int losses) {
+        switch (this) {
+            case CSV:
+                return "session," + session + "," + games + ",,," + rolls + "," + bank + "," + wins + "," + losses + ",,,";
+            case JSON:
+                return "{\"record\":\"session\",\"session\":" + session + ",\"games\":" + games
+                     + ",\"rolls\":" + rolls + ",\"bank\":" + bank + ",\"wins\":" + wins + ",\"losses\":" + losses + "}";
+            case TEXT:
+            default:
+                return String.format("session %d: %d games, %d rolls, %d-%d, bank $%d%s",
+                    session, games, rolls, wins, losses, bank, (bank <= 0) ? " (busted)" : "");
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package libraries.observer;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A ConcurrentSubject is a Subject that can be updated, subscribed to and
+ * unsubscribed from on any thread. Its observers are kept in an array that is
+ * never changed once published: adding or removing an observer swaps in a
+ * new copy, so an update walks a snapshot without taking a lock, and
+ * observers may safely remove themselves while being updated.
+ *
+ * Subjects derived from a ConcurrentSubject are ConcurrentSubjects as well.
+ */
+public class ConcurrentSubject<T> extends Subject<T> {
+    /** The observer array of a subject without observers. */
+    private static final Observer<?>[] NO_OBSERVERS = new Observer<?>[0];
+
+    /** The current snapshot of observers to update. */
+    private final AtomicReference<Observer<T>[]> myObservers;
+
+    /**
+     * Constructs a concurrent subject with no observers.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentSubject() {
+        // the observers are kept in the array, so the subject needs no list
+        super(null);
+        this.myObservers = new AtomicReference<>((Observer<T>[]) ConcurrentSubject.NO_OBSERVERS);
+    }
+
+    @Override
+    public Subscription addObserver(Observer<T> observer) {
+        Observer<T>[] current;
+        Observer<T>[] next;
+        do {
+            current = this.myObservers.get();
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = observer;
+        } while (!this.myObservers.compareAndSet(current, next));
+
+        return () -> this.removeObserver(observer);
+    }
+
+    /**
+     * Adds the callback without keeping it alive: once nothing else refers to
+     * the callback it is garbage collected and its observer removes itself on
+     * the next update. Callers must hold on to the callback for as long as
+     * they want to be updated.
+     *
+     * @param callback The callback to add.
+     * @return The subscription that removes the observer again.
+     */
+    public Subscription addWeakObserver(Consumer<T> callback) {
+        return this.addObserver(new WeakObserver<>(this, callback));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeObserver(Observer<T> observer) {
+        Observer<T>[] current;
+        Observer<T>[] next;
+        do {
+            current = this.myObservers.get();
+
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == observer) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return false;
+            }
+
+            if (current.length == 1) {
+                next = (Observer<T>[]) ConcurrentSubject.NO_OBSERVERS;
+            } else {
+                next = Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            }
+        } while (!this.myObservers.compareAndSet(current, next));
+
+        return true;
+    }
+
+    @Override
+    public boolean hasObservers() {
+        return this.myObservers.get().length > 0;
+    }
+
+    @Override
+    protected <U> Subject<U> createSubject() {
+        return new ConcurrentSubject<>();
+    }
+
+    /**
+     * Triggers every observer with the passed state.
+     */
+    @Override
+    public void update(T state) {
+        for (final Observer<T> observer : this.myObservers.get()) {
+            observer.update(state);
+        }
+    }
+
+    /**
+     * A WeakObserver only weakly refers to its callback and removes itself
+     * from its subject once the callback has been collected.
+     */
+    private static final class WeakObserver<T> extends Observer<T> {
+        /** The subject this observer was added to. */
+        private final ConcurrentSubject<T> mySubject;
+        /** The callback to invoke, until it is collected. */
+        private final WeakReference<Consumer<T>> myCallback;
+
+        /**
+         * Constructs a WeakObserver.
+         *
+         * @param subject The subject this observer is added to.
+         * @param callback The callback to invoke.
+         */
+        WeakObserver(ConcurrentSubject<T> subject, Consumer<T> callback) {
+            this.mySubject = subject;
+            this.myCallback = new WeakReference<>(callback);
+        }
+
+        @Override
+        public void update(T state) {
+            Consumer<T> callback = this.myCallback.get();
+            if (callback == null) {
+                this.mySubject.removeObserver(this);
+                return;
+            }
+
+            callback.accept(state);
+        }
+    }
+}
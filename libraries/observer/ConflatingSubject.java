@@ -0,0 +1,136 @@
+package libraries.observer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A ConflatingSubject updates its observers on an executor instead of on the
+ * thread that updates it. Only the latest state is kept: states published
+ * while the observers are still busy replace each other, so a slow observer
+ * only ever sees the newest value and the publishing thread never waits.
+ *
+ * At most one delivery task is queued on the executor at a time, so the
+ * observers of a ConflatingSubject are never updated concurrently and always
+ * see states in the order they were published.
+ */
+public class ConflatingSubject<T> extends ConcurrentSubject<T> {
+    /** Marks that no state is waiting to be delivered. */
+    private static final Object EMPTY = new Object();
+
+    /** The executor the observers are updated on. */
+    private final Executor myExecutor;
+    /** The task that delivers the latest state. */
+    private final Runnable myDrain;
+    /** The latest state that was not delivered yet (EMPTY if there is none). */
+    private final AtomicReference<Object> myLatest;
+    /** Whether a delivery task is queued or running. */
+    private final AtomicBoolean myScheduled;
+
+    /** How many states were published. */
+    private final LongAdder myPublished;
+    /** How many states were delivered to the observers. */
+    private final LongAdder myDelivered;
+    /** How many states were replaced before they could be delivered. */
+    private final LongAdder myCoalesced;
+
+    /**
+     * Constructs a conflating subject with no observers.
+     *
+     * @param executor The executor the observers are updated on, such as
+     * EventQueue::invokeLater for Swing components.
+     */
+    public ConflatingSubject(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+
+        this.myExecutor = executor;
+        this.myDrain = this::drain;
+        this.myLatest = new AtomicReference<>(ConflatingSubject.EMPTY);
+        this.myScheduled = new AtomicBoolean(false);
+        this.myPublished = new LongAdder();
+        this.myDelivered = new LongAdder();
+        this.myCoalesced = new LongAdder();
+    }
+
+    /**
+     * Gets how many states were published to this subject.
+     *
+     * @return The amount of states.
+     */
+    public long getPublishedCount() {
+        return this.myPublished.sum();
+    }
+
+    /**
+     * Gets how many states were delivered to the observers.
+     *
+     * @return The amount of states.
+     */
+    public long getDeliveredCount() {
+        return this.myDelivered.sum();
+    }
+
+    /**
+     * Gets how many states were replaced by a newer one before they could be
+     * delivered.
+     *
+     * @return The amount of states.
+     */
+    public long getCoalescedCount() {
+        return this.myCoalesced.sum();
+    }
+
+    /**
+     * Records the state as the latest one and makes sure a delivery task is
+     * queued. Never waits for the observers.
+     */
+    @Override
+    public void update(T state) {
+        this.myPublished.increment();
+        if (this.myLatest.getAndSet(state) != ConflatingSubject.EMPTY) {
+            this.myCoalesced.increment();
+        }
+
+        this.schedule();
+    }
+
+    /**
+     * Queues a delivery task unless one is already queued or running.
+     */
+    private void schedule() {
+        if (!this.myScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.myExecutor.execute(this.myDrain);
+        } catch (RuntimeException e) {
+            this.myScheduled.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Delivers the latest state until no newer one is left.
+     */
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        try {
+            Object state;
+            while ((state = this.myLatest.getAndSet(ConflatingSubject.EMPTY)) != ConflatingSubject.EMPTY) {
+                this.myDelivered.increment();
+                super.update((T) state);
+            }
+        } finally {
+            this.myScheduled.set(false);
+
+            // a state published after the loop ended but before the flag was cleared
+            if (this.myLatest.get() != ConflatingSubject.EMPTY) {
+                this.schedule();
+            }
+        }
+    }
+}
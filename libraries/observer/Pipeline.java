@@ -0,0 +1,111 @@
+package libraries.observer;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A Pipeline describes a chain of filters and conversions on the states of a
+ * subject. Unlike getDerivedSubject and getConvertedSubject, building a
+ * pipeline creates no subjects: the whole chain is fused into a single
+ * observer on the source subject once something subscribes to it. Every step
+ * wraps the callback of the steps after it, so each subscription gets its own
+ * chain of direct calls instead of a loop over the steps.
+ *
+ * Pipelines are immutable, so a pipeline can be extended in several ways
+ * without the branches affecting each other.
+ *
+ * @param <S> The state type of the source subject.
+ * @param <T> The state type at the end of the pipeline.
+ */
+public final class Pipeline<S, T> {
+    /** The subject the pipeline listens to. */
+    private final Subject<S> mySource;
+    /**
+     * Turns a callback for the states at the end of the pipeline into an
+     * observer of the source's states that runs every step before it.
+     */
+    private final Function<Consumer<? super T>, Consumer<S>> myComposer;
+
+    /**
+     * Constructs a pipeline.
+     *
+     * @param source The subject the pipeline listens to.
+     * @param composer Turns a callback for the states at the end of the
+     * pipeline into an observer of the source's states.
+     */
+    private Pipeline(Subject<S> source, Function<Consumer<? super T>, Consumer<S>> composer) {
+        this.mySource = source;
+        this.myComposer = composer;
+    }
+
+    /**
+     * Creates a pipeline without any steps.
+     *
+     * @param <S> The state type of the source subject.
+     * @param source The subject the pipeline listens to.
+     * @return The pipeline.
+     */
+    static <S> Pipeline<S, S> of(Subject<S> source) {
+        return new Pipeline<>(source, (Consumer<? super S> callback) -> callback::accept);
+    }
+
+    /**
+     * Adds a step that only lets through the states passing the trigger.
+     *
+     * @param trigger The function that decides whether or not to let a state
+     * through.
+     * @return The new pipeline.
+     */
+    public Pipeline<S, T> filter(Predicate<? super T> trigger) {
+        Function<Consumer<? super T>, Consumer<S>> upstream = this.myComposer;
+
+        return new Pipeline<>(this.mySource, (Consumer<? super T> callback) -> upstream.apply((T state) -> {
+            if (trigger.test(state)) {
+                callback.accept(state);
+            }
+        }));
+    }
+
+    /**
+     * Adds a step that converts every state that reaches it.
+     *
+     * @param <U> The new state's type.
+     * @param conversion The function that converts the state from type T to
+     * type U.
+     * @return The new pipeline.
+     */
+    public <U> Pipeline<S, U> map(Function<? super T, ? extends U> conversion) {
+        Function<Consumer<? super T>, Consumer<S>> upstream = this.myComposer;
+
+        return new Pipeline<>(this.mySource,
+            (Consumer<? super U> callback) -> upstream.apply((T state) -> callback.accept(conversion.apply(state))));
+    }
+
+    /**
+     * Fuses the pipeline into a single observer that invokes the callback and
+     * adds it to the source subject. The steps are composed from the last one
+     * back to the first.
+     *
+     * @param callback The callback to invoke with the states at the end of
+     * the pipeline.
+     * @return The subscription that removes the observer again.
+     */
+    public Subscription subscribe(Consumer<? super T> callback) {
+        return this.mySource.addObserver(this.myComposer.apply(callback));
+    }
+
+    /**
+     * Fuses the pipeline into a single observer that updates a new subject,
+     * for callers that need to hand out a subject. The new subject is of the
+     * same kind as the source subject.
+     *
+     * @return The subject at the end of the pipeline.
+     */
+    public Subject<T> toSubject() {
+        Subject<T> subject = this.mySource.createSubject();
+        this.subscribe(subject::update);
+
+        return subject;
+    }
+}
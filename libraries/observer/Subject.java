@@ -1,50 +1,146 @@
 package libraries.observer;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  * A Subject is a special kind of Observer that invokes other Observers
- * rather than just any callback.
+ * rather than just any callback. A Subject is meant to be used from a single
+ * thread; see ConcurrentSubject otherwise.
  */
 public class Subject<T> extends Observer<T> {
-    /** A list of observers to update when this subject is updated. */
-    private List<Observer<T>> myObservers;
+    /** Marks that no state was passed in yet. */
+    private static final Object NO_STATE = new Object();
+
+    /**
+     * A list of observers to update when this subject is updated (null if a
+     * subclass keeps its observers itself).
+     */
+    private final List<Observer<T>> myObservers;
 
     /**
      * Constructs a subject class with no observers.
      */
     public Subject() {
-        this.myObservers = new ArrayList<>();
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructs a subject class that keeps its observers in the given list.
+     * A subclass that keeps its observers itself passes null, and must then
+     * override addObserver(Observer), removeObserver, hasObservers and update.
+     * 
+     * @param observers The empty observer list, or null.
+     */
+    /* default */ Subject(List<Observer<T>> observers) {
+        this.myObservers = observers;
     }
     
     /**
      * Converts a callback into an observer and adds it to the observer list.
      * 
      * @param callback The callback to convert.
+     * @return The subscription that removes the observer again.
      */
-    public void addObserver(Consumer<T> callback) {
-        this.addObserver(new Observer<T>(callback));
+    public Subscription addObserver(Consumer<T> callback) {
+        return this.addObserver(new Observer<T>(callback));
     }
     
     /**
      * Adds the given observer to the observer list.
      * 
      * @param observer The observer to add.
+     * @return The subscription that removes the observer again.
      */
-    public void addObserver(Observer<T> observer) {
+    public Subscription addObserver(Observer<T> observer) {
         this.myObservers.add(observer);
+
+        return () -> this.removeObserver(observer);
     }
 
     /**
      * Adds the given subject to the observerlist.
      * 
      * @param subject The subject to add.
+     * @return The subscription that removes the subject again.
+     */
+    public Subscription addObserver(Subject<T> subject) {
+        return this.addObserver((Observer<T>) subject);
+    }
+
+    /**
+     * Removes the given observer from the observer list. This must not be
+     * called while this subject is being updated; use a ConcurrentSubject for
+     * observers that remove themselves.
+     * 
+     * @param observer The observer to remove.
+     * @return True if the observer was in the observer list.
+     */
+    public boolean removeObserver(Observer<T> observer) {
+        for (int i = 0; i < this.myObservers.size(); i++) {
+            if (this.myObservers.get(i) == observer) {
+                this.myObservers.remove(i);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether this subject has any observers.
+     * 
+     * @return True if updating this subject would invoke an observer.
+     */
+    public boolean hasObservers() {
+        return !this.myObservers.isEmpty();
+    }
+
+    /**
+     * Starts a pipeline of filters and conversions on the states of this
+     * subject. Unlike chaining derived and converted subjects, the pipeline
+     * is fused into a single observer when something subscribes to it.
+     * 
+     * @return The pipeline.
      */
-    public void addObserver(Subject<T> subject) {
+    public Pipeline<T, T> pipe() {
+        return Pipeline.of(this);
+    }
+
+    /**
+     * Creates an empty subject of the same kind as this one, used for the
+     * subjects derived from this one.
+     * 
+     * @param <U> The new subject's state type.
+     * @return The new subject.
+     */
+    protected <U> Subject<U> createSubject() {
+        return new Subject<>();
+    }
+
+    /**
+     * Creates a subject that updates its observers with the latest state of
+     * this subject on the given executor, dropping states that were replaced
+     * before they could be delivered.
+     * 
+     * @param executor The executor the observers are updated on.
+     * @return The conflating subject.
+     */
+    public ConflatingSubject<T> conflateOn(Executor executor) {
+        ConflatingSubject<T> subject = new ConflatingSubject<>(executor);
         this.addObserver(subject);
+
+        return subject;
     }
 
     /**
@@ -56,7 +152,7 @@ public class Subject<T> extends Observer<T> {
      * @return The derived subject.
      */
     public Subject<T> getDerivedSubject(Function<T, Boolean> trigger) {
-        Subject<T> subject = new Subject<>();
+        Subject<T> subject = this.createSubject();
 
         this.addObserver((T state) -> {
             if (trigger.apply(state)) {
@@ -77,7 +173,7 @@ public class Subject<T> extends Observer<T> {
      * @return The new subject.
      */
     public <U> Subject<U> getConvertedSubject(Function<T, U> conversion) {
-        Subject<U> subject = new Subject<>();
+        Subject<U> subject = this.createSubject();
 
         this.addObserver((T state) -> {
             subject.update(conversion.apply(state));
@@ -86,6 +182,120 @@ public class Subject<T> extends Observer<T> {
         return subject;
     }
     
+    /**
+     * Creates a subject that is only updated when the state passed into this
+     * subject differs from the previous one.
+     * 
+     * @return The new subject.
+     */
+    public Subject<T> distinctUntilChanged() {
+        Subject<T> subject = this.createSubject();
+        OperatorState previous = new OperatorState();
+
+        this.addObserver((T state) -> {
+            Object last = previous.myState;
+            previous.myState = state;
+            if (last != state && (last == Subject.NO_STATE || !Objects.equals(last, state))) {
+                subject.update(state);
+            }
+        });
+
+        return subject;
+    }
+
+    /**
+     * Creates a subject that is only updated when the key of the state passed
+     * into this subject differs from the key of the previous one. Keys are
+     * compared as primitives, so no boxed key is created or kept.
+     * 
+     * @param key The function that gets the key of a state, such as
+     * Integer::longValue.
+     * @return The new subject.
+     */
+    public Subject<T> distinctUntilChanged(ToLongFunction<? super T> key) {
+        Subject<T> subject = this.createSubject();
+        OperatorState previous = new OperatorState();
+
+        this.addObserver((T state) -> {
+            long current = key.applyAsLong(state);
+            if (!previous.mySeen || previous.myKey != current) {
+                previous.mySeen = true;
+                previous.myKey = current;
+                subject.update(state);
+            }
+        });
+
+        return subject;
+    }
+
+    /**
+     * Creates a subject that is updated with the first state passed into this
+     * subject and then ignores states until the interval has passed. The last
+     * states of a burst are dropped; use sample to keep them.
+     * 
+     * @param interval The shortest time between two updates.
+     * @return The new subject.
+     */
+    public Subject<T> throttle(Duration interval) {
+        Subject<T> subject = this.createSubject();
+        long nanos = interval.toNanos();
+        OperatorState next = new OperatorState();
+        next.myKey = System.nanoTime();
+
+        this.addObserver((T state) -> {
+            long now = System.nanoTime();
+            if (now - next.myKey >= 0) {
+                next.myKey = now + nanos;
+                subject.update(state);
+            }
+        });
+
+        return subject;
+    }
+
+    /**
+     * Creates a subject that is updated with the latest state of this subject
+     * at most once per interval, on a shared daemon thread. The new subject
+     * is a ConcurrentSubject, since it is updated on that thread.
+     * 
+     * @param interval The time between a state arriving and the latest state
+     * being passed on.
+     * @return The new subject.
+     */
+    public ConcurrentSubject<T> sample(Duration interval) {
+        return this.sample(interval, SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a subject that is updated with the latest state of this subject
+     * at most once per interval. The first state after a quiet period opens
+     * a window; when it closes, the latest state seen in it is passed on from
+     * the scheduler's thread. Nothing is scheduled while no states arrive.
+     * The new subject is a ConcurrentSubject whatever kind this subject is,
+     * since it is updated on the scheduler's thread.
+     * 
+     * @param interval The time between a state arriving and the latest state
+     * being passed on.
+     * @param scheduler The scheduler the new subject is updated on.
+     * @return The new subject.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentSubject<T> sample(Duration interval, ScheduledExecutorService scheduler) {
+        ConcurrentSubject<T> subject = new ConcurrentSubject<>();
+        long nanos = interval.toNanos();
+        // handed from the thread updating this subject to the scheduler's thread
+        AtomicReference<Object> latest = new AtomicReference<>(Subject.NO_STATE);
+        Runnable emit = () -> subject.update((T) latest.getAndSet(Subject.NO_STATE));
+
+        this.addObserver((T state) -> {
+            if (latest.getAndSet(state) == Subject.NO_STATE) {
+                scheduler.schedule(emit, nanos, TimeUnit.NANOSECONDS);
+            }
+        });
+
+        return subject;
+    }
+
     /**
      * Triggers every observer with the passed state.
      */
@@ -95,4 +305,31 @@ public class Subject<T> extends Observer<T> {
             observer.update(state);
         }
     }
+
+    /**
+     * OperatorState holds what an operator remembers between two states. The
+     * operators run on the thread updating the subject, so it needs no
+     * synchronization.
+     */
+    private static final class OperatorState {
+        /** The previous state (NO_STATE until the first state arrives). */
+        private Object myState = Subject.NO_STATE;
+        /** Whether a state arrived yet, for operators that only keep its key. */
+        private boolean mySeen;
+        /** The key of the previous state, or the time the next state may pass. */
+        private long myKey;
+    }
+
+    /**
+     * SharedScheduler holds the daemon thread sample uses by default. It is
+     * only started the first time sample is used without a scheduler.
+     */
+    private static final class SharedScheduler {
+        /** The shared scheduler. */
+        static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor((Runnable task) -> {
+            Thread thread = new Thread(task, "subject-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 }
@@ -0,0 +1,428 @@
+package libraries.observer;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A SubjectPublisher streams the states of a subject to Flow subscribers.
+ * Every subscriber gets its own buffer of a fixed capacity and only receives
+ * as many states as it requested; what happens to states that arrive while a
+ * buffer is full is decided by the OverflowPolicy. Subscribers are signalled
+ * on an executor, one signal at a time per subscriber.
+ *
+ * Null states are ignored, since Flow subscribers cannot receive them.
+ */
+public class SubjectPublisher<T> implements Flow.Publisher<T>, AutoCloseable {
+    /**
+     * OverflowPolicy decides what happens to a state published to a
+     * subscriber whose buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops the oldest buffered state to make room. */
+        DROP_OLDEST,
+        /**
+         * Makes the publishing thread wait until the subscriber takes a state.
+         * The executor must not run on the publishing thread.
+         */
+        BLOCK,
+        /** Cancels the subscriber and signals it an IllegalStateException. */
+        FAIL
+    }
+
+    /** The subject the states come from. */
+    private final Subject<T> mySource;
+    /** The subscription to the source subject. */
+    private final Subscription mySourceSubscription;
+    /** Fans the source's states out to every subscriber from any thread. */
+    private final ConcurrentSubject<T> mySubscribers;
+    /** How many states each subscriber buffers. */
+    private final int myCapacity;
+    /** What happens to a state published to a full buffer. */
+    private final OverflowPolicy myPolicy;
+    /** The executor the subscribers are signalled on. */
+    private final Executor myExecutor;
+    /** How many states were dropped because a buffer was full. */
+    private final LongAdder myDropped;
+    /** Whether close was called. */
+    private volatile boolean myClosed;
+
+    /**
+     * Constructs a SubjectPublisher that signals its subscribers on the
+     * common fork join pool.
+     *
+     * @param source The subject the states come from.
+     * @param capacity How many states each subscriber buffers.
+     * @param policy What happens to a state published to a full buffer.
+     */
+    public SubjectPublisher(Subject<T> source, int capacity, OverflowPolicy policy) {
+        this(source, capacity, policy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a SubjectPublisher.
+     *
+     * @param source The subject the states come from.
+     * @param capacity How many states each subscriber buffers.
+     * @param policy What happens to a state published to a full buffer.
+     * @param executor The executor the subscribers are signalled on.
+     */
+    public SubjectPublisher(Subject<T> source, int capacity, OverflowPolicy policy, Executor executor) {
+        if (source == null || policy == null || executor == null) {
+            throw new IllegalArgumentException("Source, policy and executor must not be null");
+        } else if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.mySource = source;
+        this.mySubscribers = new ConcurrentSubject<>();
+        this.myCapacity = capacity;
+        this.myPolicy = policy;
+        this.myExecutor = executor;
+        this.myDropped = new LongAdder();
+        this.myClosed = false;
+        this.mySourceSubscription = source.addObserver(this.mySubscribers);
+    }
+
+    /**
+     * Gets the subject the states come from.
+     *
+     * @return The subject.
+     */
+    public Subject<T> getSource() {
+        return this.mySource;
+    }
+
+    /**
+     * Gets how many states were dropped because a subscriber's buffer was
+     * full.
+     *
+     * @return The amount of states.
+     */
+    public long getDroppedCount() {
+        return this.myDropped.sum();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+
+        BufferedSubscription<T> subscription = new BufferedSubscription<>(this, subscriber);
+        subscription.start();
+    }
+
+    /**
+     * Stops listening to the source subject and completes every subscriber
+     * once it has received its buffered states.
+     */
+    @Override
+    public void close() {
+        this.myClosed = true;
+        this.mySourceSubscription.close();
+
+        // a null state tells the subscriptions to complete
+        this.mySubscribers.update(null);
+    }
+
+    /**
+     * A BufferedSubscription links one subscriber to the publisher.
+     */
+    private static final class BufferedSubscription<T> extends Observer<T> implements Flow.Subscription {
+        /** The publisher the subscriber subscribed to. */
+        private final SubjectPublisher<T> myPublisher;
+        /** The subscriber. */
+        private final Flow.Subscriber<? super T> mySubscriber;
+        /** Guards the buffer, demand and terminal state. */
+        private final ReentrantLock myLock;
+        /** Signalled when the buffer gets room. */
+        private final Condition myNotFull;
+        /** The buffered states, used as a ring. */
+        private final Object[] myBuffer;
+        /** The index of the oldest buffered state. */
+        private int myHead;
+        /** How many states are buffered. */
+        private int mySize;
+        /** How many more states the subscriber asked for. */
+        private long myDemand;
+        /** The error to signal (null if none). */
+        private Throwable myError;
+        /** Whether the subscriber is to be completed once the buffer is empty. */
+        private boolean myCompleting;
+        /** Whether no more signals are to be made. */
+        private boolean myDone;
+        /** The subscription to the publisher's subjects. */
+        private Subscription myUpstream;
+        /** How many times signalling was asked for while it was running. */
+        private final AtomicInteger myWip;
+        /** The task that signals the subscriber. */
+        private final Runnable myDrain;
+
+        /**
+         * Constructs a BufferedSubscription.
+         *
+         * @param publisher The publisher.
+         * @param subscriber The subscriber.
+         */
+        BufferedSubscription(SubjectPublisher<T> publisher, Flow.Subscriber<? super T> subscriber) {
+            this.myPublisher = publisher;
+            this.mySubscriber = subscriber;
+            this.myLock = new ReentrantLock();
+            this.myNotFull = this.myLock.newCondition();
+            this.myBuffer = new Object[publisher.myCapacity];
+            this.myHead = 0;
+            this.mySize = 0;
+            this.myDemand = 0;
+            this.myError = null;
+            this.myCompleting = false;
+            this.myDone = false;
+            this.myWip = new AtomicInteger(1); // held until onSubscribe returns
+            this.myDrain = this::drain;
+        }
+
+        /**
+         * Signals onSubscribe and starts listening to the publisher.
+         */
+        void start() {
+            try {
+                this.mySubscriber.onSubscribe(this);
+            } catch (RuntimeException e) {
+                this.fail(e);
+            }
+
+            Subscription upstream = this.myPublisher.mySubscribers.addObserver(this);
+            this.myLock.lock();
+            try {
+                this.myUpstream = upstream;
+                if (this.myDone) {
+                    upstream.close(); // cancelled inside onSubscribe
+                }
+            } finally {
+                this.myLock.unlock();
+            }
+            if (this.myPublisher.myClosed) {
+                this.update(null);
+            }
+
+            if (this.myWip.decrementAndGet() != 0) {
+                this.myPublisher.myExecutor.execute(this.myDrain);
+            }
+        }
+
+        /**
+         * Buffers a state published to the subject (null completes the
+         * subscriber).
+         */
+        @Override
+        public void update(T state) {
+            this.myLock.lock();
+            try {
+                if (this.myDone || this.myCompleting) {
+                    return;
+                } else if (state == null) {
+                    if (this.myPublisher.myClosed) {
+                        this.myCompleting = true;
+                    } else {
+                        return;
+                    }
+                } else if (!this.offer(state)) {
+                    return;
+                }
+            } finally {
+                this.myLock.unlock();
+            }
+
+            this.signal();
+        }
+
+        /**
+         * Adds a state to the buffer according to the overflow policy. Must
+         * be called while holding the lock.
+         *
+         * @param state The state.
+         * @return True if the subscriber needs to be signalled.
+         */
+        private boolean offer(T state) {
+            if (this.mySize == this.myBuffer.length) {
+                switch (this.myPublisher.myPolicy) {
+                    case DROP_OLDEST:
+                        this.myBuffer[this.myHead] = null;
+                        this.myHead = (this.myHead + 1) % this.myBuffer.length;
+                        this.mySize--;
+                        this.myPublisher.myDropped.increment();
+                        break;
+                    case BLOCK:
+                        while (this.mySize == this.myBuffer.length && !this.myDone) {
+                            try {
+                                this.myNotFull.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                this.myPublisher.myDropped.increment();
+                                return false;
+                            }
+                        }
+                        if (this.myDone) {
+                            return false;
+                        }
+                        break;
+                    case FAIL:
+                    default:
+                        this.myPublisher.myDropped.increment();
+                        this.myError = new IllegalStateException(
+                            "Subscriber fell more than " + this.myBuffer.length + " states behind"
+                        );
+                        return true;
+                }
+            }
+
+            this.myBuffer[(this.myHead + this.mySize) % this.myBuffer.length] = state;
+            this.mySize++;
+
+            return true;
+        }
+
+        @Override
+        public void request(long n) {
+            this.myLock.lock();
+            try {
+                if (this.myDone) {
+                    return;
+                } else if (n <= 0) {
+                    this.myError = new IllegalArgumentException("Requested " + n + " states (must be positive)");
+                } else {
+                    this.myDemand = (this.myDemand + n < 0) ? Long.MAX_VALUE : this.myDemand + n;
+                }
+            } finally {
+                this.myLock.unlock();
+            }
+
+            this.signal();
+        }
+
+        @Override
+        public void cancel() {
+            this.myLock.lock();
+            try {
+                this.terminate();
+            } finally {
+                this.myLock.unlock();
+            }
+        }
+
+        /**
+         * Stops all signals, empties the buffer and releases blocked
+         * publishers. Must be called while holding the lock.
+         */
+        private void terminate() {
+            if (this.myDone) {
+                return;
+            }
+
+            this.myDone = true;
+            Arrays.fill(this.myBuffer, null);
+            this.mySize = 0;
+            this.myNotFull.signalAll();
+            if (this.myUpstream != null) {
+                this.myUpstream.close();
+            }
+        }
+
+        /**
+         * Makes the subscriber receive the given error.
+         *
+         * @param error The error.
+         */
+        private void fail(Throwable error) {
+            this.myLock.lock();
+            try {
+                if (!this.myDone && this.myError == null) {
+                    this.myError = error;
+                }
+            } finally {
+                this.myLock.unlock();
+            }
+        }
+
+        /**
+         * Makes sure the subscriber is signalled, without ever signalling it
+         * from two threads at once.
+         */
+        private void signal() {
+            if (this.myWip.getAndIncrement() == 0) {
+                this.myPublisher.myExecutor.execute(this.myDrain);
+            }
+        }
+
+        /**
+         * Signals the subscriber as many buffered states as it asked for,
+         * then its error or completion if there is one.
+         */
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                while (true) {
+                    T state = null;
+                    Throwable error = null;
+                    boolean complete = false;
+
+                    this.myLock.lock();
+                    try {
+                        if (this.myDone) {
+                            return;
+                        } else if (this.myError != null) {
+                            error = this.myError;
+                            this.terminate();
+                        } else if (this.mySize == 0) {
+                            if (!this.myCompleting) {
+                                break;
+                            }
+                            complete = true;
+                            this.terminate();
+                        } else if (this.myDemand == 0) {
+                            break;
+                        }
+
+                        if (error == null && !complete) {
+                            state = (T) this.myBuffer[this.myHead];
+                            this.myBuffer[this.myHead] = null;
+                            this.myHead = (this.myHead + 1) % this.myBuffer.length;
+                            this.mySize--;
+                            if (this.myDemand != Long.MAX_VALUE) {
+                                this.myDemand--;
+                            }
+                            this.myNotFull.signal();
+                        }
+                    } finally {
+                        this.myLock.unlock();
+                    }
+
+                    if (error != null) {
+                        this.mySubscriber.onError(error);
+                        return;
+                    } else if (complete) {
+                        this.mySubscriber.onComplete();
+                        return;
+                    }
+
+                    try {
+                        this.mySubscriber.onNext(state);
+                    } catch (RuntimeException e) {
+                        this.fail(e);
+                    }
+                }
+
+                missed = this.myWip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package libraries.observer;
+
+/**
+ * A Subscription represents an observer added to a subject. Closing it
+ * removes the observer again; closing it more than once does nothing.
+ */
+@FunctionalInterface
+public interface Subscription extends AutoCloseable {
+    /**
+     * Removes the observer from the subject it was added to.
+     */
+    @Override
+    void close();
+}
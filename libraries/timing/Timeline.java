@@ -0,0 +1,186 @@
+package libraries.timing;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * A Timeline records when the milestones of a process were reached, such as
+ * the first frame of a window, as the time elapsed since a common origin.
+ * Milestones may be marked from any thread and only the first mark of each
+ * name counts, so a milestone that can be reached from several places keeps
+ * the earliest time.
+ */
+public final class Timeline {
+    /**
+     * A Milestone is a named point of a timeline.
+     *
+     * @param name The name of the milestone.
+     * @param elapsed The time from the origin to the milestone.
+     */
+    public record Milestone(String name, Duration elapsed) {}
+
+    /** The timeline of the JVM's startup, shared by the whole program. */
+    private static Timeline startup;
+
+    /** The origin of the timeline (System.nanoTime()). */
+    private final long myOrigin;
+    /** The milestones in the order they were reached. */
+    private final Map<String, Duration> myMilestones;
+
+    /**
+     * Constructs a Timeline.
+     *
+     * @param origin The origin of the timeline (System.nanoTime()).
+     */
+    public Timeline(long origin) {
+        this.myOrigin = origin;
+        this.myMilestones = new LinkedHashMap<>();
+    }
+
+    /**
+     * Makes a timeline that starts now.
+     *
+     * @return The timeline.
+     */
+    public static Timeline sinceNow() {
+        return new Timeline(System.nanoTime());
+    }
+
+    /**
+     * Makes a timeline that starts when the JVM started.
+     *
+     * @return The timeline.
+     */
+    public static Timeline sinceJvmStart() {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        return new Timeline(System.nanoTime() - uptime * 1_000_000L);
+    }
+
+    /**
+     * Gets the timeline of the JVM's startup, shared by the whole program.
+     *
+     * @return The timeline.
+     */
+    public static synchronized Timeline startup() {
+        if (Timeline.startup == null) {
+            Timeline.startup = Timeline.sinceJvmStart();
+        }
+
+        return Timeline.startup;
+    }
+
+    /**
+     * Marks that a milestone was reached now. Does nothing if it was already
+     * reached.
+     *
+     * @param name The name of the milestone.
+     * @return The time from the origin to the milestone.
+     */
+    public Duration mark(String name) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - this.myOrigin);
+
+        synchronized (this.myMilestones) {
+            return this.myMilestones.computeIfAbsent(name, (String unused) -> elapsed);
+        }
+    }
+
+    /**
+     * Checks if a milestone was reached.
+     *
+     * @param name The name of the milestone.
+     * @return True if it was reached.
+     */
+    public boolean has(String name) {
+        synchronized (this.myMilestones) {
+            return this.myMilestones.containsKey(name);
+        }
+    }
+
+    /**
+     * Gets the time from the origin to a milestone.
+     *
+     * @param name The name of the milestone.
+     * @return The time (null if the milestone was not reached).
+     */
+    public Duration get(String name) {
+        synchronized (this.myMilestones) {
+            return this.myMilestones.get(name);
+        }
+    }
+
+    /**
+     * Gets the time between two milestones.
+     *
+     * @param from The name of the earlier milestone.
+     * @param to The name of the later milestone.
+     * @return The time (null if either milestone was not reached).
+     */
+    public Duration between(String from, String to) {
+        synchronized (this.myMilestones) {
+            Duration start = this.myMilestones.get(from);
+            Duration end = this.myMilestones.get(to);
+
+            return (start == null || end == null) ? null : end.minus(start);
+        }
+    }
+
+    /**
+     * Gets the milestones in the order they were reached.
+     *
+     * @return The milestones.
+     */
+    public List<Milestone> getMilestones() {
+        List<Milestone> milestones = new ArrayList<>();
+        synchronized (this.myMilestones) {
+            this.myMilestones.forEach((String name, Duration elapsed) -> milestones.add(new Milestone(name, elapsed)));
+        }
+
+        return milestones;
+    }
+
+    /**
+     * Appends the milestones to a CSV file with a "release,milestone,millis"
+     * row per milestone, so the same milestones can be compared across
+     * releases. The header is written if the file is new.
+     *
+     * @param file The file.
+     * @param release The release the milestones were measured on.
+     * @throws IOException If the file cannot be written.
+     */
+    public void appendCsv(Path file, String release) throws IOException {
+        StringBuilder rows = new StringBuilder();
+        if (!Files.exists(file)) {
+            rows.append("release,milestone,millis").append(System.lineSeparator());
+        }
+
+        for (Milestone milestone : this.getMilestones()) {
+            rows.append(release).append(',')
+                .append(milestone.name()).append(',')
+                .append(milestone.elapsed().toNanos() / 1_000_000.0)
+                .append(System.lineSeparator());
+        }
+
+        Files.writeString(file, rows, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Milestone milestone : this.getMilestones()) {
+            joiner.add(milestone.name() + "=" + milestone.elapsed().toMillis() + " ms");
+        }
+
+        return joiner.toString();
+    }
+}
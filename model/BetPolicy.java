@@ -0,0 +1,100 @@
+package model;
+
+/**
+ * A BetPolicy decides how much a player bets on each game it plays on its own,
+ * based on its bank and how the previous game went.
+ */
+@FunctionalInterface
+public interface BetPolicy {
+    /**
+     * Decides the bet of the next game. Bets higher than the bank are lowered
+     * to the bank by the player.
+     *
+     * @param bank The bank before the game.
+     * @param lastBet The bet of the previous game (0 before the first game).
+     * @param lastResult The outcome of the previous game (null before the
+     * first game).
+     * @return The bet (0 or less to stop playing).
+     */
+    int nextBet(int bank, int lastBet, WinState lastResult);
+
+    /**
+     * Makes a policy that always bets the same amount.
+     *
+     * @param amount The bet.
+     * @return The policy.
+     */
+    static BetPolicy flat(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Bet must be positive");
+        }
+
+        return (int bank, int lastBet, WinState lastResult) -> amount;
+    }
+
+    /**
+     * Makes a policy that doubles the bet after every loss and goes back to
+     * the base bet after a win.
+     *
+     * @param base The first bet and the bet after a win.
+     * @return The policy.
+     */
+    static BetPolicy martingale(int base) {
+        if (base <= 0) {
+            throw new IllegalArgumentException("Base bet must be positive");
+        }
+
+        return (int bank, int lastBet, WinState lastResult) -> {
+            if (lastResult != WinState.LOSS || lastBet <= 0) {
+                return base;
+            }
+
+            return (int) Math.min((long) lastBet * 2, Integer.MAX_VALUE);
+        };
+    }
+
+    /**
+     * Makes a policy that bets a share of the bank, but at least 1.
+     *
+     * @param share The share of the bank (more than 0, at most 1).
+     * @return The policy.
+     */
+    static BetPolicy fraction(double share) {
+        if (!(share > 0 && share <= 1)) {
+            throw new IllegalArgumentException("Share must be more than 0 and at most 1");
+        }
+
+        return (int bank, int lastBet, WinState lastResult) -> Math.max(1, (int) (bank * share));
+    }
+
+    /**
+     * Parses a policy written as "flat:AMOUNT", "martingale:BASE" or
+     * "fraction:SHARE", such as "flat:10".
+     *
+     * @param text The policy.
+     * @return The policy.
+     */
+    static BetPolicy parse(String text) {
+        int separator = text.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Bet policy \"" + text + "\" must look like NAME:VALUE");
+        }
+
+        String name = text.substring(0, separator).trim();
+        String value = text.substring(separator + 1).trim();
+        try {
+            switch (name) {
+                case "flat":
+                    return BetPolicy.flat(Integer.parseInt(value));
+                case "martingale":
+                    return BetPolicy.martingale(Integer.parseInt(value));
+                case "fraction":
+                    return BetPolicy.fraction(Double.parseDouble(value));
+                default:
+                    throw new IllegalArgumentException("Unknown bet policy \"" + name + "\" (use flat, martingale or fraction)");
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bet policy \"" + text + "\" has an invalid value");
+        }
+    }
+}
@@ -1,30 +1,56 @@
 package model;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import model.rules.CompiledRules;
 
 /**
  * Craps represents a one-time craps game.
  */
 public class Craps {
-    /** The rolls that lead to a win on the first turn. */
-    private static final Set<Integer> firstTurnWins = new HashSet<>(Arrays.asList(7, 11));
-    /** The rolls that lead to a loss on the first turn. */
-    private static final Set<Integer> firstTurnloss = new HashSet<>(Arrays.asList(2, 3, 12));
-    /** The roll that leads to a loss on turns after the first. */
-    private static final int laterTurnLoss = 7;
-    
     /** The point of this current game. */
     private int myPoint;
     /** The current dice roll of this game. */
     private Dice myDice;
+    /** 
+     * The generator to roll with (null if the rolling thread's generator 
+     * should be used).
+     */
+    private RandomGenerator myRandom;
+    /** The rules that decide the outcome of every roll. */
+    private CompiledRules myRules;
 
     /**
      * Constructs a Craps game with no point.
      */
     public Craps() {
+        this(CompiledRules.STANDARD, null);
+    }
+
+    /**
+     * Constructs a Craps game with no point that rolls with the given 
+     * generator.
+     * 
+     * @param random The generator to roll with (null to use the rolling 
+     * thread's generator).
+     */
+    public Craps(RandomGenerator random) {
+        this(CompiledRules.STANDARD, random);
+    }
+
+    /**
+     * Constructs a Craps game with no point that plays by the given rules and
+     * rolls with the given generator.
+     * 
+     * @param rules The rules to play by.
+     * @param random The generator to roll with (null to use the rolling 
+     * thread's generator).
+     */
+    public Craps(CompiledRules rules, RandomGenerator random) {
         this.myPoint = -1;
+        this.myRandom = random;
+        this.myRules = Objects.requireNonNull(rules);
     }
 
     /**
@@ -35,6 +61,34 @@ public class Craps {
     public Craps(Craps other) {
         this.myPoint = other.myPoint;
         this.myDice = other.myDice;
+        this.myRandom = other.myRandom;
+        this.myRules = other.myRules;
+    }
+
+    /**
+     * Sets the rules that decide the outcome of every roll.
+     * 
+     * @param rules The rules.
+     */
+    public void setRules(CompiledRules rules) {
+        this.myRules = Objects.requireNonNull(rules);
+    }
+
+    /**
+     * Sets the generator to roll with.
+     * 
+     * @param random The generator (null to use the rolling thread's generator).
+     */
+    public void setRandomGenerator(RandomGenerator random) {
+        this.myRandom = random;
+    }
+
+    /**
+     * Resets this game so that it can be played again from the first turn.
+     */
+    public void reset() {
+        this.myPoint = -1;
+        this.myDice = null;
     }
 
     /**
@@ -71,23 +125,7 @@ public class Craps {
      * @return The game result.
      */
     private WinState getResult(boolean firstTurn) {
-        int sum = this.myDice.getSum();
-        
-        if (firstTurn) {
-            if (Craps.firstTurnWins.contains(sum)) {
-                return WinState.WON;
-            } else if (Craps.firstTurnloss.contains(sum)) {
-                return WinState.LOSS;
-            }
-        } else {
-            if (sum == this.myPoint) {
-                return WinState.WON;
-            } else if (sum == Craps.laterTurnLoss) {
-                return WinState.LOSS;
-            }
-        }
-
-        return WinState.ONGOING;
+        return this.myRules.resolve(firstTurn ? CompiledRules.COME_OUT : this.myPoint, this.myDice.getSum());
     }
 
     /**
@@ -96,7 +134,7 @@ public class Craps {
      * @return The outcome.
      */
     public WinState roll() {
-        this.myDice = Dice.newRoll();
+        this.myDice = (this.myRandom == null) ? Dice.newRoll() : Dice.newRoll(this.myRandom);
 
         if (this.isFirstTurn()) {
             this.myPoint = this.myDice.getSum();
@@ -1,6 +1,11 @@
 package model;
 
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import model.analysis.GameSampler;
+import model.rules.CompiledRules;
 
 /**
  * CrapsPlayer is a wrapper for Craps that allows for betting.
@@ -10,14 +15,23 @@ public class CrapsPlayer {
     private int myBank;
     /** How much money the player is betting. */
     private int myBet;
-    /** The current game of craps. */
+    /** The current game of craps (null if the player is not playing). */
     private Craps myCurrentGame;
+    /** The game that is reset and reused whenever a new game starts. */
+    private Craps myReusableGame;
     /** How many times the player has won. */
     private int myWins;
     /** How many times the player has lost. */
     private int myLosses;
     /** The player's most recent bet. */
     private int myLastBet;
+    /** 
+     * The generator the player's games roll with (null if the rolling 
+     * thread's generator should be used).
+     */
+    private RandomGenerator myRandom;
+    /** The rules the player's games are played by. */
+    private CompiledRules myRules;
     
     /** 
      * Constructs a player.
@@ -26,9 +40,12 @@ public class CrapsPlayer {
         this.myBank = 0;
         this.myBet = 0;
         this.myCurrentGame = null;
+        this.myReusableGame = null;
         this.myWins = 0;
         this.myLosses = 0;
         this.myLastBet = 0;
+        this.myRandom = null;
+        this.myRules = CompiledRules.STANDARD;
     }
 
     /**
@@ -43,11 +60,57 @@ public class CrapsPlayer {
         } else {
             this.myCurrentGame = new Craps(other.myCurrentGame);
         }
+        this.myReusableGame = this.myCurrentGame;
+        this.myWins = other.myWins;
+        this.myLosses = other.myLosses;
+        this.myLastBet = other.myLastBet;
+        this.myRandom = other.myRandom;
+        this.myRules = other.myRules;
+    }
+
+    /**
+     * Takes over the bank, bet, wins, losses, last bet and current game of
+     * another player. The generator and rules stay this player's own.
+     * 
+     * @param other The player to copy.
+     */
+    public void copyFrom(CrapsPlayer other) {
+        this.myBank = other.myBank;
+        this.myBet = other.myBet;
+        this.myCurrentGame = (other.myCurrentGame == null) ? null : new Craps(other.myCurrentGame);
+        if (this.myCurrentGame != null) {
+            this.myCurrentGame.setRandomGenerator(this.myRandom);
+            this.myCurrentGame.setRules(this.myRules);
+            this.myReusableGame = this.myCurrentGame;
+        }
         this.myWins = other.myWins;
         this.myLosses = other.myLosses;
         this.myLastBet = other.myLastBet;
     }
 
+    /**
+     * Sets the generator this player's games roll with. Giving every table or
+     * worker its own generator keeps them from contending over one.
+     * 
+     * @param random The generator (null to use the rolling thread's generator).
+     */
+    public void setRandomGenerator(RandomGenerator random) {
+        this.myRandom = random;
+        if (this.myReusableGame != null) {
+            this.myReusableGame.setRandomGenerator(random);
+        }
+    }
+
+    /**
+     * Sets the rules this player's games are played by. A game that is already
+     * ongoing keeps its rules until it ends.
+     * 
+     * @param rules The rules.
+     */
+    public void setRules(CompiledRules rules) {
+        this.myRules = Objects.requireNonNull(rules);
+    }
+
     /**
      * Resets the player with the new bank amount.
      * 
@@ -196,8 +259,16 @@ public class CrapsPlayer {
      * @param firstTurn True if it is the first turn.
      */
     protected void updateGame(boolean firstTurn) {
-        WinState result = this.rollDice();
-        
+        this.settleGame(this.rollDice());
+    }
+
+    /**
+     * Pays out or takes the bet once the outcome of a game is known and ends 
+     * the game. Nothing happens while the game is ongoing.
+     * 
+     * @param result The outcome of the game.
+     */
+    private void settleGame(WinState result) {
         if (result.equals(WinState.WON)) {
             this.setBank(this.myBank + this.getBet() * 2);
 
@@ -217,7 +288,7 @@ public class CrapsPlayer {
      * Rerolls the dice of a craps game.
      */
     public void continueGame() {
-        if (this.myCurrentGame.isFirstTurn()) {
+        if (this.myCurrentGame == null || this.myCurrentGame.isFirstTurn()) {
             throw new IllegalStateException("Cannot continue to roll dice before first turn (use startGame() first)");
         }
         
@@ -234,9 +305,38 @@ public class CrapsPlayer {
             throw new IllegalStateException("Cannot start a game when one is already ongoing (use rollDice() instead)");
         }
 
-        this.myCurrentGame = new Craps();
+        if (this.myReusableGame == null) {
+            this.myReusableGame = new Craps(this.myRules, this.myRandom);
+        } else {
+            this.myReusableGame.reset();
+            this.myReusableGame.setRules(this.myRules);
+        }
+        this.myCurrentGame = this.myReusableGame;
         this.setBank(this.myBank - this.getBet());
         
         this.updateGame(true);
     }
+
+    /**
+     * Plays a whole craps game without rolling the dice by drawing its 
+     * outcome straight from its distribution. The bet is taken and paid out
+     * exactly like a game played with startGame() and continueGame().
+     * 
+     * @param sampler The sampler to draw the game from.
+     * @return The drawn game.
+     */
+    public GameSampler.SampledGame playSampledGame(GameSampler sampler) {
+        if ((this.myBet <= 0) || (this.myBet > this.myBank)) {
+            throw new IllegalArgumentException("Bet not legal");
+        } else if (this.myCurrentGame != null) {
+            throw new IllegalStateException("Cannot start a game when one is already ongoing (use rollDice() instead)");
+        }
+
+        this.setBank(this.myBank - this.getBet());
+
+        GameSampler.SampledGame game = sampler.sample((this.myRandom == null) ? ThreadLocalRandom.current() : this.myRandom);
+        this.settleGame(game.result());
+
+        return game;
+    }
 }
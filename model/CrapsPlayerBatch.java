@@ -0,0 +1,347 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import model.rules.CompiledRules;
+
+/**
+ * CrapsPlayerBatch represents many CrapsPlayers stored as parallel primitive
+ * arrays instead of one object per player. Every player follows the exact
+ * same betting and bank rules as CrapsPlayer, but all of them are advanced
+ * one roll at a time in tight loops.
+ */
+public class CrapsPlayerBatch {
+    /** The point of a player that is not in a game. */
+    public static final int NOT_PLAYING = -1;
+
+    /** How much money each player has. */
+    private final int[] myBanks;
+    /** How much money each player is betting. */
+    private final int[] myBets;
+    /**
+     * The point of each player's game (CompiledRules.COME_OUT if the come-out
+     * roll is pending and NOT_PLAYING if the player is not in a game).
+     */
+    private final int[] myPoints;
+    /** How many times each player has won. */
+    private final int[] myWins;
+    /** How many times each player has lost. */
+    private final int[] myLosses;
+    /** Each player's most recent bet. */
+    private final int[] myLastBets;
+    /** The sum each player rolled most recently. */
+    private final int[] mySums;
+
+    /** The rules every game is played by. */
+    private CompiledRules myRules;
+    /**
+     * The generator every roll uses (null if the rolling thread's buffered
+     * die faces should be used).
+     */
+    private RandomGenerator myRandom;
+    /** The kernel that resolves the rolls. */
+    private RollKernel myKernel;
+
+    /**
+     * Constructs a batch of players that all have an empty bank and resolve
+     * their rolls with the fastest available kernel.
+     *
+     * @param size The amount of players.
+     */
+    public CrapsPlayerBatch(int size) {
+        this(size, RollKernel.best());
+    }
+
+    /**
+     * Constructs a batch of players that all have an empty bank.
+     *
+     * @param size The amount of players.
+     * @param kernel The kernel that resolves the rolls.
+     */
+    public CrapsPlayerBatch(int size, RollKernel kernel) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Amount of players cannot be negative");
+        }
+
+        this.myBanks = new int[size];
+        this.myBets = new int[size];
+        this.myPoints = new int[size];
+        this.myWins = new int[size];
+        this.myLosses = new int[size];
+        this.myLastBets = new int[size];
+        this.mySums = new int[size];
+
+        Arrays.fill(this.myPoints, CrapsPlayerBatch.NOT_PLAYING);
+
+        this.myRules = CompiledRules.STANDARD;
+        this.myRandom = null;
+        this.myKernel = Objects.requireNonNull(kernel);
+    }
+
+    /**
+     * Gets the amount of players.
+     *
+     * @return The amount of players.
+     */
+    public int size() {
+        return this.myBanks.length;
+    }
+
+    /**
+     * Sets the rules every game is played by.
+     *
+     * @param rules The rules.
+     */
+    public void setRules(CompiledRules rules) {
+        this.myRules = Objects.requireNonNull(rules);
+    }
+
+    /**
+     * Sets the generator every roll uses. Rolls are drawn in player order.
+     *
+     * @param random The generator (null to use the rolling thread's buffered
+     * die faces).
+     */
+    public void setRandomGenerator(RandomGenerator random) {
+        this.myRandom = random;
+    }
+
+    /**
+     * Sets the kernel that resolves the rolls.
+     *
+     * @param kernel The kernel.
+     */
+    public void setKernel(RollKernel kernel) {
+        this.myKernel = Objects.requireNonNull(kernel);
+    }
+
+    /**
+     * Gets a player's bank.
+     *
+     * @param player The index of the player.
+     * @return The bank.
+     */
+    public int getBank(int player) {
+        return this.myBanks[player];
+    }
+
+    /**
+     * Sets a player's bank.
+     *
+     * @param player The index of the player.
+     * @param amount The new bank amount.
+     */
+    public void setBank(int player, int amount) {
+        this.myBanks[player] = Math.max(amount, 0);
+    }
+
+    /**
+     * Sets every player's bank.
+     *
+     * @param amount The new bank amount.
+     */
+    public void setBankAll(int amount) {
+        Arrays.fill(this.myBanks, Math.max(amount, 0));
+    }
+
+    /**
+     * Gets a player's bet.
+     *
+     * @param player The index of the player.
+     * @return The bet.
+     */
+    public int getBet(int player) {
+        return this.myBets[player];
+    }
+
+    /**
+     * Sets a player's bet. The bet is kept between 0 and the player's bank.
+     *
+     * @param player The index of the player.
+     * @param bet The new bet.
+     */
+    public void setBet(int player, int bet) {
+        this.myBets[player] = Math.max(0, Math.min(bet, this.myBanks[player]));
+    }
+
+    /**
+     * Sets the bet of every player that is not in a game. Each bet is kept
+     * between 0 and that player's bank.
+     *
+     * @param bet The new bet.
+     */
+    public void setBetAll(int bet) {
+        for (int player = 0; player < this.myBets.length; player++) {
+            if (this.myPoints[player] == CrapsPlayerBatch.NOT_PLAYING) {
+                this.myBets[player] = Math.max(0, Math.min(bet, this.myBanks[player]));
+            }
+        }
+    }
+
+    /**
+     * Gets the point of a player's game.
+     *
+     * @param player The index of the player.
+     * @return The point (NOT_PLAYING if the player is not in a game).
+     */
+    public int getPoint(int player) {
+        return this.myPoints[player];
+    }
+
+    /**
+     * Gets the sum a player rolled most recently.
+     *
+     * @param player The index of the player.
+     * @return The sum (0 if the player never rolled).
+     */
+    public int getLastSum(int player) {
+        return this.mySums[player];
+    }
+
+    /**
+     * Gets a player's wins.
+     *
+     * @param player The index of the player.
+     * @return The wins.
+     */
+    public int getMyWins(int player) {
+        return this.myWins[player];
+    }
+
+    /**
+     * Gets a player's losses.
+     *
+     * @param player The index of the player.
+     * @return The losses.
+     */
+    public int getMyLosses(int player) {
+        return this.myLosses[player];
+    }
+
+    /**
+     * Gets a player's last bet.
+     *
+     * @param player The index of the player.
+     * @return The last bet.
+     */
+    public int getMyLastBet(int player) {
+        return this.myLastBets[player];
+    }
+
+    /**
+     * Checks if a player is currently playing a game.
+     *
+     * @param player The index of the player.
+     * @return True if the player is currently playing.
+     */
+    public boolean isPlaying(int player) {
+        return this.myPoints[player] != CrapsPlayerBatch.NOT_PLAYING;
+    }
+
+    /**
+     * Starts a game for a player and rolls its come-out roll, exactly like
+     * CrapsPlayer.startGame().
+     *
+     * @param player The index of the player.
+     */
+    public void startGame(int player) {
+        if ((this.myBets[player] <= 0) || (this.myBets[player] > this.myBanks[player])) {
+            throw new IllegalArgumentException("Bet not legal");
+        } else if (this.isPlaying(player)) {
+            throw new IllegalStateException("Cannot start a game when one is already ongoing (use continueGame() instead)");
+        }
+
+        this.placeBet(player);
+        this.rollRange(player, player + 1);
+    }
+
+    /**
+     * Rerolls the dice of a player's game, exactly like
+     * CrapsPlayer.continueGame().
+     *
+     * @param player The index of the player.
+     */
+    public void continueGame(int player) {
+        if (this.myPoints[player] <= CompiledRules.COME_OUT) {
+            throw new IllegalStateException("Cannot continue to roll dice before first turn (use startGame() first)");
+        }
+
+        this.rollRange(player, player + 1);
+    }
+
+    /**
+     * Starts a game for every player that is not in a game and has a legal
+     * bet. Their come-out rolls happen on the next call to roll().
+     *
+     * @return The amount of games started.
+     */
+    public int startGames() {
+        int started = 0;
+        for (int player = 0; player < this.myBanks.length; player++) {
+            if (this.myPoints[player] == CrapsPlayerBatch.NOT_PLAYING
+            && this.myBets[player] > 0 && this.myBets[player] <= this.myBanks[player]) {
+                this.placeBet(player);
+                started++;
+            }
+        }
+
+        return started;
+    }
+
+    /**
+     * Rolls once for every player that is in a game.
+     *
+     * @return The amount of players still in a game afterwards.
+     */
+    public int roll() {
+        return this.rollRange(0, this.myBanks.length);
+    }
+
+    /**
+     * Takes a player's bet out of its bank and waits for the come-out roll.
+     *
+     * @param player The index of the player.
+     */
+    private void placeBet(int player) {
+        this.myBanks[player] -= this.myBets[player];
+        this.myPoints[player] = CompiledRules.COME_OUT;
+    }
+
+    /**
+     * Rolls once for every player in the given range that is in a game.
+     *
+     * @param from The first player (inclusive).
+     * @param to The last player (exclusive).
+     * @return The amount of players in the range still in a game afterwards.
+     */
+    private int rollRange(int from, int to) {
+        RandomGenerator random = (this.myRandom == null) ? Dice.localFaces() : this.myRandom;
+        int[] points = this.myPoints;
+        int[] sums = this.mySums;
+
+        for (int player = from; player < to; player++) {
+            if (points[player] != CrapsPlayerBatch.NOT_PLAYING) {
+                sums[player] = random.nextInt(1, 7) + random.nextInt(1, 7);
+            }
+        }
+
+        return this.resolve(from, to);
+    }
+
+    /**
+     * Applies the most recent sums to every player in the given range that is
+     * in a game, settling their banks like CrapsPlayer.updateGame().
+     *
+     * @param from The first player (inclusive).
+     * @param to The last player (exclusive).
+     * @return The amount of players in the range still in a game afterwards.
+     */
+    private int resolve(int from, int to) {
+        return this.myKernel.resolve(
+            this.myRules, this.myBanks, this.myBets, this.myPoints, this.mySums,
+            this.myWins, this.myLosses, this.myLastBets, from, to
+        );
+    }
+}
@@ -1,17 +1,29 @@
 package model;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Dice represents a static pair of dice.
  */
 public class Dice {
-    /** Random number generator for all Dice. */
-    private static Random RNG = new Random();
     /** Minimum possible number on a die. */
     private static int MIN_DICE_VALUE = 1;
     /** Maximum possible number on a die. */
     private static int MAX_DICE_VALUE = 6;
+    /** Every possible pair of dice, indexed by (die1 - 1) * 6 + (die2 - 1). */
+    private static final Dice[] ALL_ROLLS = new Dice[36];
+    /** Each thread's buffer of die faces used by newRoll and rollMany. */
+    private static final ThreadLocal<DieFaceGenerator> LOCAL_FACES = 
+        ThreadLocal.withInitial(() -> new DieFaceGenerator(ThreadLocalRandom.current()));
+
+    static {
+        for (int die1 = Dice.MIN_DICE_VALUE; die1 <= Dice.MAX_DICE_VALUE; die1++) {
+            for (int die2 = Dice.MIN_DICE_VALUE; die2 <= Dice.MAX_DICE_VALUE; die2++) {
+                Dice.ALL_ROLLS[Dice.indexOf(die1, die2)] = new Dice(die1, die2);
+            }
+        }
+    }
 
     /** The number of the first die. */
     public final int myDie1;
@@ -34,12 +46,82 @@ public class Dice {
     }
 
     /**
-     * Creates a new and random Dice object.
+     * Gets the index of the given pair of dice within ALL_ROLLS.
+     * 
+     * @param die1 The number of the first die.
+     * @param die2 The number of the second die.
+     * @return The index.
+     */
+    private static int indexOf(int die1, int die2) {
+        return (die1 - Dice.MIN_DICE_VALUE) * Dice.MAX_DICE_VALUE + (die2 - Dice.MIN_DICE_VALUE);
+    }
+
+    /**
+     * Gets the shared Dice object with the given numbers. Dice are immutable
+     * so every roll of the same numbers can share one instance.
+     * 
+     * @param die1 The number of the first die.
+     * @param die2 The number of the second die.
+     * @return The Dice object.
+     */
+    public static Dice of(int die1, int die2) {
+        if (die1 < Dice.MIN_DICE_VALUE || die1 > Dice.MAX_DICE_VALUE
+        || die2 < Dice.MIN_DICE_VALUE || die2 > Dice.MAX_DICE_VALUE) {
+            throw new IllegalArgumentException("Die values passed were invalid");
+        }
+
+        return Dice.ALL_ROLLS[Dice.indexOf(die1, die2)];
+    }
+
+    /**
+     * Gets a random Dice object using the calling thread's buffer of die
+     * faces, so a 64-bit random draw is only needed every 12 rolls. No Dice
+     * object is allocated and no generator is shared between threads.
      * @return The Dice object.
      */
     public static Dice newRoll() {
-        return new Dice(Dice.RNG.nextInt(Dice.MIN_DICE_VALUE, Dice.MAX_DICE_VALUE + 1), 
-                        Dice.RNG.nextInt(Dice.MIN_DICE_VALUE, Dice.MAX_DICE_VALUE + 1));
+        DieFaceGenerator faces = Dice.localFaces();
+        int die1 = faces.nextFace();
+        int die2 = faces.nextFace();
+
+        return Dice.ALL_ROLLS[Dice.indexOf(die1, die2)];
+    }
+
+    /**
+     * Gets a random Dice object using the given generator. No Dice object is
+     * allocated.
+     * @param rng The generator to roll with.
+     * @return The Dice object.
+     */
+    public static Dice newRoll(RandomGenerator rng) {
+        return Dice.of(rng.nextInt(Dice.MIN_DICE_VALUE, Dice.MAX_DICE_VALUE + 1), 
+                       rng.nextInt(Dice.MIN_DICE_VALUE, Dice.MAX_DICE_VALUE + 1));
+    }
+
+    /**
+     * Gets the calling thread's buffer of die faces. It must not be handed to
+     * another thread.
+     * 
+     * @return The buffer.
+     */
+    static DieFaceGenerator localFaces() {
+        return Dice.LOCAL_FACES.get();
+    }
+
+    /**
+     * Rolls the dice many times at once and fills the given array with the 
+     * sum of each roll. The faces are extracted many at a time from single
+     * 64-bit random values buffered per thread.
+     * 
+     * @param n The amount of rolls.
+     * @param out The array to fill (from index 0).
+     */
+    public static void rollMany(int n, int[] out) {
+        if (n < 0 || n > out.length) {
+            throw new IllegalArgumentException("Amount of rolls does not fit in the array");
+        }
+
+        Dice.localFaces().nextSums(n, out);
     }
 
     /**
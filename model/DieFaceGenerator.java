@@ -0,0 +1,102 @@
+package model;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * DieFaceGenerator is a RandomGenerator that turns one 64-bit random value
+ * into up to 24 die faces by reading it as base-6 digits. Values that would
+ * make some faces more likely than others are rejected. Faces that have not
+ * been used yet are kept in a buffer, so a DieFaceGenerator belongs to a
+ * single thread.
+ *
+ * Asking for a number between 1 and 6 (what Dice.newRoll does) is served from
+ * the buffer. Every other request is passed on to the wrapped generator.
+ */
+public class DieFaceGenerator implements RandomGenerator {
+    /** The amount of faces on a die. */
+    private static final int FACES = 6;
+    /** The amount of base-6 digits read from a single 64-bit value. */
+    private static final int DIGITS_PER_DRAW = 24;
+    /** 6 to the power of DIGITS_PER_DRAW. */
+    private static final long DIGIT_SPACE = 4738381338321616896L;
+    /**
+     * The largest multiple of DIGIT_SPACE that fits in an unsigned 64-bit
+     * value. Draws at or above it are rejected.
+     */
+    private static final long ACCEPT_LIMIT = 3 * DieFaceGenerator.DIGIT_SPACE;
+
+    /** The generator that provides the 64-bit values. */
+    private final RandomGenerator mySource;
+    /** The unused base-6 digits of the current draw. */
+    private long myDigits;
+    /** How many unused digits are left in myDigits. */
+    private int myRemaining;
+
+    /**
+     * Constructs a DieFaceGenerator.
+     *
+     * @param source The generator that provides the 64-bit values.
+     */
+    public DieFaceGenerator(RandomGenerator source) {
+        this.mySource = Objects.requireNonNull(source);
+        this.myDigits = 0;
+        this.myRemaining = 0;
+    }
+
+    /**
+     * Gets a die face between 1 and 6.
+     *
+     * @return The die face.
+     */
+    public int nextFace() {
+        if (this.myRemaining == 0) {
+            this.refill();
+        }
+
+        int face = (int) (this.myDigits % DieFaceGenerator.FACES);
+        this.myDigits /= DieFaceGenerator.FACES;
+        this.myRemaining--;
+
+        return face + 1;
+    }
+
+    /**
+     * Fills the given array with the sums of rolling two dice.
+     *
+     * @param n The amount of rolls.
+     * @param out The array to fill (from index 0).
+     */
+    public void nextSums(int n, int[] out) {
+        for (int i = 0; i < n; i++) {
+            out[i] = this.nextFace() + this.nextFace();
+        }
+    }
+
+    /**
+     * Draws 64-bit values until one can be read as 24 unbiased base-6 digits.
+     */
+    private void refill() {
+        long value;
+        do {
+            value = this.mySource.nextLong();
+        } while (Long.compareUnsigned(value, DieFaceGenerator.ACCEPT_LIMIT) >= 0);
+
+        this.myDigits = Long.remainderUnsigned(value, DieFaceGenerator.DIGIT_SPACE);
+        this.myRemaining = DieFaceGenerator.DIGITS_PER_DRAW;
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        if (origin == 1 && bound == 1 + DieFaceGenerator.FACES) {
+            return this.nextFace();
+        }
+
+        return this.mySource.nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return this.mySource.nextLong();
+    }
+}
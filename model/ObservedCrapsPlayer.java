@@ -1,76 +1,103 @@
 package model;
 
+import java.util.function.Function;
+
+import libraries.observer.Observer;
+import libraries.observer.Pipeline;
 import libraries.observer.Subject;
+import libraries.observer.Subscription;
+import model.analysis.GameSampler;
+import model.bus.PlayerEventBus;
 
 /**
  * ObservedCrapsPlayer represents a CrapsPlayer that complies with the 
- * observer design pattern.
+ * observer design pattern. Subjects are only created the first time they are
+ * asked for, and no event is dispatched to a subject nobody listens to, so an
+ * unobserved player costs about as much as a plain CrapsPlayer.
+ *
+ * Every public operation is a transaction: the fields it changes are
+ * collected and published once when it finishes, as a single PlayerChange on
+ * the change subject. The individual subjects are derived from the change
+ * subject by a pipeline that filters on their field and picks out its value.
+ * A derived subject only listens to the change subject while it has
+ * observers itself, so the subjects are updated in the order they got their
+ * first observer. Observers that need several fields of one operation should
+ * observe the change subject instead, and get a single update. Bank, bet,
+ * wins and losses are only published when their value differs from the
+ * previous published commit; the game state is always published since
+ * whether a game can be started also depends on the bank. While nothing
+ * listens, a commit does no work but forget the collected changes.
  */
 public class ObservedCrapsPlayer extends CrapsPlayer {
-    /** Triggers when setBank is used. */
-    private final Subject<Integer> myOnBankSet;
-
-    /** Triggers when the outcome of a game is decided. */
-    private final Subject<WinState> myOnGameResult;
-    /** Triggers when a game is won by the player. */
-    private final Subject<Integer> myOnGameWon;
-    /** Triggers when a game is lost by the player. */
-    private final Subject<Integer> myOnGameLoss;
-
-    /** Triggers when the point is set. */
-    private final Subject<Integer> myOnPointSet;
-
-    /** Triggers when the dice is rolled/rerolled. */
-    private final Subject<Dice> myOnDiceSet;
-    /** Same as onDiceSet but only gets die1's number. */
-    private final Subject<Integer> myOnDie1Set;
-    /** Same as onDiceSet but only gets die2's number. */
-    private final Subject<Integer> myOnDie2Set;
-    /** Same as onDiceSet but only gets the sum of dice. */
-    private final Subject<Integer> myOnDiceTotalSet;
-
-    /** Triggers when setBet is used. */
-    private final Subject<Integer> myOnBetSet;
+    /** Triggers when setBank is used (null until asked for). */
+    private Subject<Integer> myOnBankSet;
+
+    /** Triggers when the outcome of a game is decided (null until asked for). */
+    private Subject<WinState> myOnGameResult;
+    /** Triggers when a game is won by the player (null until asked for). */
+    private Subject<Integer> myOnGameWon;
+    /** Triggers when a game is lost by the player (null until asked for). */
+    private Subject<Integer> myOnGameLoss;
+
+    /** Triggers when the point is set (null until asked for). */
+    private Subject<Integer> myOnPointSet;
+
+    /** Triggers when the dice is rolled/rerolled (null until asked for). */
+    private Subject<Dice> myOnDiceSet;
+    /** Same as onDiceSet but only gets die1's number (null until asked for). */
+    private Subject<Integer> myOnDie1Set;
+    /** Same as onDiceSet but only gets die2's number (null until asked for). */
+    private Subject<Integer> myOnDie2Set;
+    /** Same as onDiceSet but only gets the sum of dice (null until asked for). */
+    private Subject<Integer> myOnDiceTotalSet;
+
+    /** Triggers when setBet is used (null until asked for). */
+    private Subject<Integer> myOnBetSet;
 
     /** 
      * Triggers when the game's state changes from not playing to playing or 
      * from playing to not playing. Returns true if it is from not playing to
-     * playing.
+     * playing (null until asked for).
      */
-    private final Subject<Boolean> myOnGameStateSet;
-    /** Triggers at the moment the game can be started. */
-    private final Subject<Boolean> myOnGameStartable;
+    private Subject<Boolean> myOnGameStateSet;
+    /** Triggers at the moment the game can be started (null until asked for). */
+    private Subject<Boolean> myOnGameStartable;
+
+    /** Triggers once per operation with everything it changed (null until asked for). */
+    private Subject<PlayerChange> myOnChange;
+
+    /** How many operations are currently running (operations can nest). */
+    private int myDepth;
+    /** The fields changed by the running operation. */
+    private int myChangedFields;
+    /** The dice rolled by the running operation (null if none were rolled). */
+    private Dice myChangedDice;
+    /** The point set by the running operation (-1 if none was set). */
+    private int myChangedPoint;
+    /** The outcome of the game ended by the running operation (null if none ended). */
+    private WinState myChangedResult;
+
+    /** The bus every commit is also published to (null if there is none). */
+    private PlayerEventBus myEventBus;
+    /** The table id the player's events are published with. */
+    private int myTable;
+
+    /** The bank as of the last commit. */
+    private int myCommittedBank;
+    /** The bet as of the last commit. */
+    private int myCommittedBet;
+    /** The wins as of the last commit. */
+    private int myCommittedWins;
+    /** The losses as of the last commit. */
+    private int myCommittedLosses;
     
     /**
      * Constructs a new ObservedCrapsPlayer.
      */
     public ObservedCrapsPlayer() {
         super();
-        this.myOnBankSet = new Subject<>();
-
-        this.myOnGameResult = new Subject<>();
-        this.myOnGameWon = this.myOnGameResult
-            .getDerivedSubject((WinState state) -> state == WinState.WON)
-            .getConvertedSubject((WinState state) -> this.getMyWins());
-        this.myOnGameLoss = this.myOnGameResult
-            .getDerivedSubject((WinState state) -> state == WinState.LOSS)
-            .getConvertedSubject((WinState state) -> this.getMyLosses());
-
-        this.myOnPointSet = new Subject<>();
-
-        this.myOnDiceSet = new Subject<>();
-        this.myOnDie1Set = myOnDiceSet
-            .getConvertedSubject((Dice dice) -> dice.myDie1);
-        this.myOnDie2Set = myOnDiceSet
-            .getConvertedSubject((Dice dice) -> dice.myDie2);
-        this.myOnDiceTotalSet = myOnDiceSet
-            .getConvertedSubject((Dice dice) -> dice.getSum());
-
-        this.myOnBetSet = new Subject<>();
-
-        this.myOnGameStateSet = new Subject<>();
-        this.myOnGameStartable = this.myOnGameStateSet
-            .getConvertedSubject((Boolean started) -> started ? false : (super.getBank() > 0));
+        this.myChangedPoint = -1;
+        this.markCommitted();
     }
 
     /**
@@ -79,31 +106,18 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      */
     public ObservedCrapsPlayer(CrapsPlayer parent) {
         super(parent);
-        this.myOnBankSet = new Subject<>();
-
-        this.myOnGameResult = new Subject<>();
-        this.myOnGameWon = this.myOnGameResult
-            .getDerivedSubject((WinState state) -> state == WinState.WON)
-            .getConvertedSubject((WinState state) -> this.getMyWins());
-        this.myOnGameLoss = this.myOnGameResult
-            .getDerivedSubject((WinState state) -> state == WinState.LOSS)
-            .getConvertedSubject((WinState state) -> this.getMyLosses());
-
-        this.myOnPointSet = new Subject<>();
-
-        this.myOnDiceSet = new Subject<>();
-        this.myOnDie1Set = myOnDiceSet
-            .getConvertedSubject((Dice dice) -> dice.myDie1);
-        this.myOnDie2Set = myOnDiceSet
-            .getConvertedSubject((Dice dice) -> dice.myDie2);
-        this.myOnDiceTotalSet = myOnDiceSet
-            .getConvertedSubject((Dice dice) -> dice.getSum());
-
-        this.myOnBetSet = new Subject<>();
+        this.myChangedPoint = -1;
+        this.markCommitted();
+    }
 
-        this.myOnGameStateSet = new Subject<>();
-        this.myOnGameStartable = this.myOnGameStateSet
-            .getConvertedSubject((Boolean started) -> started ? false : (this.getBank() > 0));
+    /**
+     * Checks whether anybody listens to the given subject.
+     * 
+     * @param subject The subject (null if it was never asked for).
+     * @return True if the subject has observers.
+     */
+    private static boolean isObserved(Subject<?> subject) {
+        return subject != null && subject.hasObservers();
     }
 
     /**
@@ -112,6 +126,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The bank subject.
      */
     public Subject<Integer> getBankSubject() {
+        if (this.myOnBankSet == null) {
+            this.myOnBankSet = this.getFieldSubject(PlayerChange.BANK, (PlayerChange change) -> change.bank());
+        }
+
         return this.myOnBankSet;
     }
 
@@ -121,6 +139,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The game result subject.
      */
     public Subject<WinState> getGameResultSubject() {
+        if (this.myOnGameResult == null) {
+            this.myOnGameResult = this.getFieldSubject(PlayerChange.RESULT, (PlayerChange change) -> change.result());
+        }
+
         return this.myOnGameResult;
     }
 
@@ -130,6 +152,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The game won subject.
      */
     public Subject<Integer> getGameWonSubject() {
+        if (this.myOnGameWon == null) {
+            this.myOnGameWon = this.getFieldSubject(PlayerChange.WINS, (PlayerChange change) -> change.wins());
+        }
+
         return this.myOnGameWon;
     }
 
@@ -138,6 +164,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The game loss subject.
      */
     public Subject<Integer> getGameLossSubject() {
+        if (this.myOnGameLoss == null) {
+            this.myOnGameLoss = this.getFieldSubject(PlayerChange.LOSSES, (PlayerChange change) -> change.losses());
+        }
+
         return this.myOnGameLoss;
     }
 
@@ -147,6 +177,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The point subject.
      */
     public Subject<Integer> getPointSubject() {
+        if (this.myOnPointSet == null) {
+            this.myOnPointSet = this.getFieldSubject(PlayerChange.POINT, (PlayerChange change) -> change.point());
+        }
+
         return this.myOnPointSet;
     }
 
@@ -156,6 +190,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The dice subject.
      */
     public Subject<Dice> getDiceSubject() {
+        if (this.myOnDiceSet == null) {
+            this.myOnDiceSet = this.getFieldSubject(PlayerChange.DICE, (PlayerChange change) -> change.dice());
+        }
+
         return this.myOnDiceSet;
     }
 
@@ -164,6 +202,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The die #1 subject.
      */
     public Subject<Integer> getDie1Subject() {
+        if (this.myOnDie1Set == null) {
+            this.myOnDie1Set = this.getFieldSubject(PlayerChange.DICE, (PlayerChange change) -> change.dice().myDie1);
+        }
+
         return this.myOnDie1Set;
     }
 
@@ -172,6 +214,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The die #2 subject.
      */
     public Subject<Integer> getDie2Subject() {
+        if (this.myOnDie2Set == null) {
+            this.myOnDie2Set = this.getFieldSubject(PlayerChange.DICE, (PlayerChange change) -> change.dice().myDie2);
+        }
+
         return this.myOnDie2Set;
     }
 
@@ -180,6 +226,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The die total subject.
      */
     public Subject<Integer> getDiceTotalSubject() {
+        if (this.myOnDiceTotalSet == null) {
+            this.myOnDiceTotalSet = this.getFieldSubject(PlayerChange.DICE, (PlayerChange change) -> change.dice().getSum());
+        }
+
         return this.myOnDiceTotalSet;
     }
 
@@ -189,6 +239,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The bet subject.
      */
     public Subject<Integer> getBetSubject() {
+        if (this.myOnBetSet == null) {
+            this.myOnBetSet = this.getFieldSubject(PlayerChange.BET, (PlayerChange change) -> change.bet());
+        }
+
         return this.myOnBetSet;
     }
     
@@ -198,6 +252,10 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The game state subject.
      */
     public Subject<Boolean> getGameStateSubject() {
+        if (this.myOnGameStateSet == null) {
+            this.myOnGameStateSet = this.getFieldSubject(PlayerChange.GAME_STATE, (PlayerChange change) -> change.playing());
+        }
+
         return this.myOnGameStateSet;
     }
     
@@ -207,14 +265,190 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
      * @return The game startable subject.
      */
     public Subject<Boolean> getGameStartableSubject() {
+        if (this.myOnGameStartable == null) {
+            this.myOnGameStartable = this.getFieldSubject(
+                PlayerChange.GAME_STATE, (PlayerChange change) -> !change.playing() && change.bank() > 0
+            );
+        }
+
         return this.myOnGameStartable;
     }
 
+    /**
+     * Gets the change subject, which is updated once per operation with
+     * every field the operation changed.
+     * 
+     * @return The change subject.
+     */
+    public Subject<PlayerChange> getChangeSubject() {
+        if (this.myOnChange == null) {
+            this.myOnChange = new Subject<>();
+        }
+
+        return this.myOnChange;
+    }
+
+    /**
+     * Creates a subject that is updated with a value of every change set
+     * holding the given field. Nothing but a filter and a conversion sits
+     * between the change subject and the new subject, and only while the new
+     * subject has observers.
+     * 
+     * @param <T> The type of the value.
+     * @param field The field bit.
+     * @param value Picks the value out of a change set.
+     * @return The subject.
+     */
+    private <T> Subject<T> getFieldSubject(int field, Function<PlayerChange, T> value) {
+        return new FieldSubject<>(this.getChangeSubject().pipe()
+            .filter((PlayerChange change) -> change.has(field))
+            .map(value));
+    }
+
+    /**
+     * Publishes every commit of this player to the given bus as well, from
+     * the thread that changes the player. Publishing allocates nothing, so
+     * many tables driven by one thread can stream their events to consumers
+     * on other threads instead of updating observers inline.
+     * 
+     * @param bus The bus (null to stop publishing).
+     * @param table The table id to publish with.
+     */
+    public void setEventBus(PlayerEventBus bus, int table) {
+        this.myEventBus = bus;
+        this.myTable = table;
+    }
+
+    /**
+     * Remembers the current bank, bet, wins and losses as published.
+     */
+    private void markCommitted() {
+        this.myCommittedBank = super.getBank();
+        this.myCommittedBet = super.getBet();
+        this.myCommittedWins = super.getMyWins();
+        this.myCommittedLosses = super.getMyLosses();
+    }
+
+    /**
+     * Starts an operation. Changes are collected until the outermost
+     * operation commits.
+     */
+    private void begin() {
+        this.myDepth++;
+    }
+
+    /**
+     * Ends an operation and, if it is the outermost one, publishes the
+     * collected changes.
+     */
+    private void commit() {
+        if ((--this.myDepth > 0) || (this.myChangedFields == 0)) {
+            return;
+        } else if (this.myEventBus == null && !ObservedCrapsPlayer.isObserved(this.myOnChange)) {
+            // nobody listens, so the next published commit is compared to the last published one
+            this.myChangedFields = 0;
+            this.myChangedDice = null;
+            this.myChangedPoint = -1;
+            this.myChangedResult = null;
+            return;
+        }
+
+        // observers may change the player again, so publish the state as of this commit
+        int bank = super.getBank();
+        int bet = super.getBet();
+        boolean playing = super.isPlaying();
+        int wins = super.getMyWins();
+        int losses = super.getMyLosses();
+
+        int fields = this.myChangedFields & ~this.unchangedFields(bank, bet, wins, losses);
+        Dice dice = this.myChangedDice;
+        int point = this.myChangedPoint;
+        WinState result = this.myChangedResult;
+        this.myChangedFields = 0;
+        this.myChangedDice = null;
+        this.myChangedPoint = -1;
+        this.myChangedResult = null;
+        this.markCommitted();
+
+        if (fields == 0) {
+            return;
+        }
+
+        if (this.myEventBus != null) {
+            this.myEventBus.publish(
+                fields, this.myTable,
+                (dice == null) ? 0 : dice.myDie1, (dice == null) ? 0 : dice.myDie2,
+                bank, bet, point, (result == null) ? -1 : result.ordinal(), playing
+            );
+        }
+
+        if (ObservedCrapsPlayer.isObserved(this.myOnChange)) {
+            this.myOnChange.update(new PlayerChange(fields, bank, bet, dice, point, playing, result, wins, losses));
+        }
+    }
+
+    /**
+     * Gets the fields whose value is the same as at the last commit.
+     * 
+     * @param bank The current bank.
+     * @param bet The current bet.
+     * @param wins The current wins.
+     * @param losses The current losses.
+     * @return The unchanged fields.
+     */
+    private int unchangedFields(int bank, int bet, int wins, int losses) {
+        int fields = 0;
+        if (bank == this.myCommittedBank) {
+            fields |= PlayerChange.BANK;
+        }
+        if (bet == this.myCommittedBet) {
+            fields |= PlayerChange.BET;
+        }
+        if (wins == this.myCommittedWins) {
+            fields |= PlayerChange.WINS;
+        }
+        if (losses == this.myCommittedLosses) {
+            fields |= PlayerChange.LOSSES;
+        }
+
+        return fields;
+    }
+
+    /**
+     * Records the outcome of a game that ended in the running operation.
+     * 
+     * @param result The outcome of the game.
+     */
+    private void recordResult(WinState result) {
+        if (result == WinState.WON) {
+            this.myChangedFields |= PlayerChange.RESULT | PlayerChange.WINS;
+            this.myChangedResult = result;
+        } else if (result == WinState.LOSS) {
+            this.myChangedFields |= PlayerChange.RESULT | PlayerChange.LOSSES;
+            this.myChangedResult = result;
+        }
+    }
+
     @Override
     public void reinitialize(int bankAmount) {
-        super.reinitialize(bankAmount);
-        this.myOnBankSet.update(this.getBank());
-        this.myOnGameStateSet.update(this.isPlaying());
+        this.begin();
+        try {
+            super.reinitialize(bankAmount);
+        } finally {
+            this.commit();
+        }
+    }
+    
+    @Override
+    public void copyFrom(CrapsPlayer other) {
+        this.begin();
+        try {
+            super.copyFrom(other);
+            this.myChangedFields |= PlayerChange.BANK | PlayerChange.BET | PlayerChange.WINS
+                | PlayerChange.LOSSES | PlayerChange.GAME_STATE;
+        } finally {
+            this.commit();
+        }
     }
     
     @Override
@@ -224,9 +458,13 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
     
     @Override
     public void setBank(int amount) {
-        super.setBank(amount);
-
-        this.myOnBankSet.update(super.getBank());
+        this.begin();
+        try {
+            super.setBank(amount);
+            this.myChangedFields |= PlayerChange.BANK;
+        } finally {
+            this.commit();
+        }
     }
 
     @Override
@@ -236,16 +474,24 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
 
     @Override
     public void setBet(int bet) {
-        super.setBet(bet);
-
-        this.myOnBetSet.update(super.getBet());
+        this.begin();
+        try {
+            super.setBet(bet);
+            this.myChangedFields |= PlayerChange.BET;
+        } finally {
+            this.commit();
+        }
     }
 
     @Override
     public void incrementBet(int amount) {
-        super.incrementBet(amount);
-
-        this.myOnBetSet.update(super.getBet());
+        this.begin();
+        try {
+            super.incrementBet(amount);
+            this.myChangedFields |= PlayerChange.BET;
+        } finally {
+            this.commit();
+        }
     }
 
     @Override
@@ -255,32 +501,43 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
 
     @Override
     public void resetGame() {
-        super.resetGame();
-        this.myOnGameStateSet.update(this.isPlaying());
+        this.begin();
+        try {
+            super.resetGame();
+            this.myChangedFields |= PlayerChange.GAME_STATE;
+        } finally {
+            this.commit();
+        }
     }
 
     @Override
     public void resetPlayer() {
-        super.resetPlayer();
-
-        this.myOnGameWon.update(this.getMyWins()); // 0
-        this.myOnGameLoss.update(this.getMyLosses()); // 0
-        this.myOnBetSet.update(this.getBet()); // 0
-        this.myOnBankSet.update(this.getBank()); // 0
-        this.myOnGameStateSet.update(this.isPlaying()); // false
+        this.begin();
+        try {
+            super.resetPlayer();
+            this.myChangedFields |= PlayerChange.WINS | PlayerChange.LOSSES | PlayerChange.BET
+                | PlayerChange.BANK | PlayerChange.GAME_STATE; // all back to 0/false
+        } finally {
+            this.commit();
+        }
     }
     
     @Override
     protected void updateGame(boolean firstTurn) {
-        int prevWins = super.getMyWins();
-        int prevLosses = super.getMyLosses();
-
-        super.updateGame(firstTurn);
-
-        if (super.getMyWins() > prevWins) {
-            this.myOnGameResult.update(WinState.WON);
-        } else if (super.getMyLosses() > prevLosses) {
-            this.myOnGameResult.update(WinState.LOSS);
+        this.begin();
+        try {
+            int prevWins = super.getMyWins();
+            int prevLosses = super.getMyLosses();
+
+            super.updateGame(firstTurn);
+
+            if (super.getMyWins() > prevWins) {
+                this.recordResult(WinState.WON);
+            } else if (super.getMyLosses() > prevLosses) {
+                this.recordResult(WinState.LOSS);
+            }
+        } finally {
+            this.commit();
         }
     }
 
@@ -290,9 +547,11 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
         
         WinState result = super.rollDice();
 
-        this.myOnDiceSet.update(super.getDice());
+        this.myChangedFields |= PlayerChange.DICE;
+        this.myChangedDice = super.getDice();
         if (firstTurn) {
-            this.myOnPointSet.update(super.getPoint());
+            this.myChangedFields |= PlayerChange.POINT;
+            this.myChangedPoint = super.getPoint();
         }
         
         return result;
@@ -300,10 +559,69 @@ public class ObservedCrapsPlayer extends CrapsPlayer {
 
     @Override
     public void startGame() {
-        super.startGame();
+        this.begin();
+        try {
+            super.startGame();
+
+            if (super.isPlaying()) {
+                this.myChangedFields |= PlayerChange.GAME_STATE; // game only changes from not playing to playing if there is no first turn win
+            }
+        } finally {
+            this.commit();
+        }
+    }
+
+    @Override
+    public GameSampler.SampledGame playSampledGame(GameSampler sampler) {
+        this.begin();
+        try {
+            GameSampler.SampledGame game = super.playSampledGame(sampler);
+            this.recordResult(game.result());
+
+            return game;
+        } finally {
+            this.commit();
+        }
+    }
+
+    /**
+     * A FieldSubject is updated by a pipeline on the change subject, which it
+     * only subscribes while it has observers.
+     */
+    private static final class FieldSubject<T> extends Subject<T> {
+        /** The pipeline picking the subject's value out of the change sets. */
+        private final Pipeline<PlayerChange, T> myPipeline;
+        /** The pipeline's subscription (null while there are no observers). */
+        private Subscription mySubscription;
+
+        /**
+         * Constructs a FieldSubject.
+         * 
+         * @param pipeline The pipeline picking the value out of the change sets.
+         */
+        FieldSubject(Pipeline<PlayerChange, T> pipeline) {
+            this.myPipeline = pipeline;
+        }
+
+        @Override
+        public Subscription addObserver(Observer<T> observer) {
+            Subscription subscription = super.addObserver(observer);
+            if (this.mySubscription == null) {
+                this.mySubscription = this.myPipeline.subscribe(this::update);
+            }
+
+            return subscription;
+        }
+
+        @Override
+        public boolean removeObserver(Observer<T> observer) {
+            boolean removed = super.removeObserver(observer);
+            if (removed && !this.hasObservers()) {
+                this.mySubscription.close();
+                this.mySubscription = null;
+            }
 
-        if (super.isPlaying()) {
-            this.myOnGameStateSet.update(true); // game only changes from not playing to playing if there is no first turn win
+            return removed;
         }
     }
 }
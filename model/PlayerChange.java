@@ -0,0 +1,48 @@
+package model;
+
+/**
+ * PlayerChange represents every change made to an ObservedCrapsPlayer by a
+ * single operation, such as one roll of the dice. The fields mask tells which
+ * of the values changed; values of fields that did not change are only
+ * meaningful as the player's current state (bank, bet, game state, wins and
+ * losses) or are left empty (dice, point and result).
+ *
+ * @param fields The fields that changed (a combination of the field bits).
+ * @param bank The bank after the change.
+ * @param bet The bet after the change.
+ * @param dice The dice that were rolled (null if the dice were not rolled).
+ * @param point The point that was set (-1 if no point was set).
+ * @param playing Whether the player is playing after the change.
+ * @param result The outcome of the game that ended (null if none ended).
+ * @param wins The wins after the change.
+ * @param losses The losses after the change.
+ */
+public record PlayerChange(int fields, int bank, int bet, Dice dice, int point,
+                           boolean playing, WinState result, int wins, int losses) {
+    /** The bank changed. */
+    public static final int BANK = 1;
+    /** The bet changed. */
+    public static final int BET = 1 << 1;
+    /** The dice were rolled. */
+    public static final int DICE = 1 << 2;
+    /** The point was set. */
+    public static final int POINT = 1 << 3;
+    /** The game started or ended. */
+    public static final int GAME_STATE = 1 << 4;
+    /** The wins changed. */
+    public static final int WINS = 1 << 5;
+    /** The losses changed. */
+    public static final int LOSSES = 1 << 6;
+    /** A game ended with a result. */
+    public static final int RESULT = 1 << 7;
+
+    /**
+     * Checks if the given field changed.
+     *
+     * @param field The field bit.
+     * @return True if the field changed.
+     */
+    public boolean has(int field) {
+        return (this.fields & field) != 0;
+    }
+}
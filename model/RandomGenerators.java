@@ -0,0 +1,86 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * RandomGenerators provides the generators that Dice, Craps and CrapsPlayer
+ * can roll with. Every generator made here belongs to a single thread or
+ * table, so no two rollers ever contend over the same seed.
+ */
+public final class RandomGenerators {
+    /** The name of the LXM algorithm used by mixed(). */
+    private static final String MIXED_ALGORITHM = "L64X128MixRandom";
+
+    /**
+     * RandomGenerators only has static methods.
+     */
+    private RandomGenerators() { }
+
+    /**
+     * Gets the calling thread's generator. The generator must not be handed
+     * to another thread.
+     *
+     * @return The calling thread's generator.
+     */
+    public static RandomGenerator threadLocal() {
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Creates a SplittableRandom generator.
+     *
+     * @param seed The seed of the generator.
+     * @return The generator.
+     */
+    public static SplittableGenerator splittable(long seed) {
+        return new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates a SplittableRandom generator with a random seed.
+     *
+     * @return The generator.
+     */
+    public static SplittableGenerator splittable() {
+        return new SplittableRandom();
+    }
+
+    /**
+     * Creates an L64X128MixRandom generator.
+     *
+     * @param seed The seed of the generator.
+     * @return The generator.
+     */
+    public static SplittableGenerator mixed(long seed) {
+        return (SplittableGenerator) RandomGeneratorFactory.of(RandomGenerators.MIXED_ALGORITHM).create(seed);
+    }
+
+    /**
+     * Creates an L64X128MixRandom generator with a random seed.
+     *
+     * @return The generator.
+     */
+    public static SplittableGenerator mixed() {
+        return (SplittableGenerator) RandomGeneratorFactory.of(RandomGenerators.MIXED_ALGORITHM).create();
+    }
+
+    /**
+     * Splits the given generator into independent generators, one for each
+     * parallel worker.
+     *
+     * @param root The generator to split.
+     * @param count The amount of generators.
+     * @return The generators.
+     */
+    public static SplittableGenerator[] split(SplittableGenerator root, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Amount of generators cannot be negative");
+        }
+
+        return root.splits(count).toArray(SplittableGenerator[]::new);
+    }
+}
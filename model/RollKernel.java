@@ -0,0 +1,70 @@
+package model;
+
+import model.rules.CompiledRules;
+
+/**
+ * RollKernel resolves a range of rolled sums for the players of a
+ * CrapsPlayerBatch. Every array is indexed by player, and a player whose
+ * point is CrapsPlayerBatch.NOT_PLAYING is left untouched.
+ */
+public interface RollKernel {
+    /** The name of the kernel that uses the incubating Vector API. */
+    String VECTOR_KERNEL = "model.VectorRollKernel";
+
+    /**
+     * Resolves the most recent sum of every player in the given range that is
+     * in a game, settling their banks like CrapsPlayer.updateGame().
+     *
+     * @param rules The rules to play by.
+     * @param banks How much money each player has.
+     * @param bets How much money each player is betting.
+     * @param points The point of each player's game.
+     * @param sums The sum each player rolled most recently.
+     * @param wins How many times each player has won.
+     * @param losses How many times each player has lost.
+     * @param lastBets Each player's most recent bet.
+     * @param from The first player (inclusive).
+     * @param to The last player (exclusive).
+     * @return The amount of players in the range still in a game afterwards.
+     */
+    int resolve(CompiledRules rules, int[] banks, int[] bets, int[] points, int[] sums,
+                int[] wins, int[] losses, int[] lastBets, int from, int to);
+
+    /**
+     * Gets the kernel that resolves one player at a time.
+     *
+     * @return The scalar kernel.
+     */
+    static RollKernel scalar() {
+        return ScalarRollKernel.INSTANCE;
+    }
+
+    /**
+     * Gets the kernel that resolves whole lanes of players at once using the
+     * jdk.incubator.vector module.
+     *
+     * @return The vector kernel.
+     * @throws UnsupportedOperationException If the module is not available.
+     */
+    static RollKernel vector() {
+        try {
+            return (RollKernel) Class.forName(RollKernel.VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("The jdk.incubator.vector module is not available", e);
+        }
+    }
+
+    /**
+     * Gets the vector kernel if the jdk.incubator.vector module is available
+     * and the scalar kernel otherwise.
+     *
+     * @return The fastest available kernel.
+     */
+    static RollKernel best() {
+        try {
+            return RollKernel.vector();
+        } catch (UnsupportedOperationException e) {
+            return RollKernel.scalar();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package model;
+
+import model.rules.CompiledRules;
+
+/**
+ * ScalarRollKernel resolves one player at a time with the compiled rule
+ * table. It is used whenever the Vector API is not available.
+ */
+final class ScalarRollKernel implements RollKernel {
+    /** The only ScalarRollKernel. */
+    static final ScalarRollKernel INSTANCE = new ScalarRollKernel();
+
+    /** The ordinal of WinState.WON. */
+    private static final int WON = WinState.WON.ordinal();
+    /** The ordinal of WinState.LOSS. */
+    private static final int LOSS = WinState.LOSS.ordinal();
+
+    /**
+     * ScalarRollKernel is stateless so only one is ever needed.
+     */
+    private ScalarRollKernel() { }
+
+    @Override
+    public int resolve(CompiledRules rules, int[] banks, int[] bets, int[] points, int[] sums,
+                       int[] wins, int[] losses, int[] lastBets, int from, int to) {
+        int playing = 0;
+
+        for (int player = from; player < to; player++) {
+            int point = points[player];
+            if (point == CrapsPlayerBatch.NOT_PLAYING) {
+                continue;
+            }
+
+            int sum = sums[player];
+            int result = rules.resolveOrdinal(point, sum);
+            if (result == ScalarRollKernel.WON) {
+                banks[player] += 2 * bets[player];
+                wins[player] += 1;
+            } else if (result == ScalarRollKernel.LOSS) {
+                losses[player] += 1;
+            } else {
+                if (point == CompiledRules.COME_OUT) {
+                    points[player] = sum;
+                }
+                playing++;
+                continue;
+            }
+
+            lastBets[player] = bets[player];
+            bets[player] = 0;
+            points[player] = CrapsPlayerBatch.NOT_PLAYING;
+        }
+
+        return playing;
+    }
+}
@@ -0,0 +1,80 @@
+package model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import model.rules.CompiledRules;
+
+/**
+ * VectorRollKernel resolves whole lanes of players at once with the
+ * jdk.incubator.vector module. It applies the same come-out and point rules
+ * as the compiled rule table using masks instead of branches. This class is
+ * only loaded through RollKernel.vector() so that the rest of the model works
+ * without the module.
+ */
+final class VectorRollKernel implements RollKernel {
+    /** The preferred vector shape of this machine. */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public int resolve(CompiledRules rules, int[] banks, int[] bets, int[] points, int[] sums,
+                       int[] wins, int[] losses, int[] lastBets, int from, int to) {
+        int naturalMask = rules.getNaturalMask();
+        int crapsMask = rules.getCrapsMask();
+        int sevenOut = rules.getSevenOut();
+        IntVector one = IntVector.broadcast(VectorRollKernel.SPECIES, 1);
+        int playing = 0;
+
+        int player = from;
+        int bound = from + VectorRollKernel.SPECIES.loopBound(to - from);
+        for (; player < bound; player += VectorRollKernel.SPECIES.length()) {
+            IntVector point = IntVector.fromArray(VectorRollKernel.SPECIES, points, player);
+            IntVector sum = IntVector.fromArray(VectorRollKernel.SPECIES, sums, player);
+
+            VectorMask<Integer> active = point.compare(VectorOperators.NE, CrapsPlayerBatch.NOT_PLAYING);
+            VectorMask<Integer> comeOut = point.compare(VectorOperators.EQ, CompiledRules.COME_OUT);
+            VectorMask<Integer> pointPhase = active.andNot(comeOut);
+
+            IntVector sumBit = one.lanewise(VectorOperators.LSHL, sum);
+            VectorMask<Integer> natural = sumBit.and(naturalMask).compare(VectorOperators.NE, 0);
+            VectorMask<Integer> craps = sumBit.and(crapsMask).compare(VectorOperators.NE, 0);
+
+            VectorMask<Integer> won = comeOut.and(natural)
+                .or(pointPhase.and(sum.compare(VectorOperators.EQ, point)));
+            VectorMask<Integer> lost = comeOut.and(craps)
+                .or(pointPhase.and(sum.compare(VectorOperators.EQ, sevenOut)));
+            VectorMask<Integer> resolved = won.or(lost);
+            VectorMask<Integer> newPoint = comeOut.andNot(resolved);
+
+            if (active.anyTrue()) {
+                IntVector bet = IntVector.fromArray(VectorRollKernel.SPECIES, bets, player);
+
+                IntVector.fromArray(VectorRollKernel.SPECIES, banks, player)
+                    .add(bet.add(bet), won)
+                    .intoArray(banks, player);
+                IntVector.fromArray(VectorRollKernel.SPECIES, wins, player)
+                    .add(1, won)
+                    .intoArray(wins, player);
+                IntVector.fromArray(VectorRollKernel.SPECIES, losses, player)
+                    .add(1, lost)
+                    .intoArray(losses, player);
+                IntVector.fromArray(VectorRollKernel.SPECIES, lastBets, player)
+                    .blend(bet, resolved)
+                    .intoArray(lastBets, player);
+                bet.blend(0, resolved)
+                    .intoArray(bets, player);
+                point.blend(sum, newPoint)
+                    .blend(CrapsPlayerBatch.NOT_PLAYING, resolved)
+                    .intoArray(points, player);
+
+                playing += active.andNot(resolved).trueCount();
+            }
+        }
+
+        return playing + ScalarRollKernel.INSTANCE.resolve(
+            rules, banks, bets, points, sums, wins, losses, lastBets, player, to
+        );
+    }
+}
@@ -0,0 +1,367 @@
+package model.analysis;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.WinState;
+import model.rules.CompiledRules;
+import model.rules.RuleSet;
+
+/**
+ * CrapsOdds represents the exact odds of a craps game. They are solved from
+ * the absorbing Markov chain implied by a rule table: the come-out roll moves
+ * to a win, a loss or a point, and every point stays put until it is
+ * resolved. Solutions are cached per rule set, so asking for the odds of the
+ * same rules again costs a single map lookup.
+ */
+public final class CrapsOdds {
+    /** The amount of equally likely outcomes of rolling two dice. */
+    public static final int OUTCOMES = 36;
+
+    /** The solved odds of every rule set asked for so far. */
+    private static final Map<CompiledRules, CrapsOdds> CACHE = new ConcurrentHashMap<>();
+
+    /** The rules these odds were solved for. */
+    private final CompiledRules myRules;
+
+    /** The chance of winning on the come-out roll. */
+    private final double myComeOutWin;
+    /** The chance of losing on the come-out roll. */
+    private final double myComeOutLoss;
+    /** The chance of the come-out roll setting each point (indexed by point). */
+    private final double[] myPointChance;
+    /** The chance of a single roll winning once each point is set. */
+    private final double[] myPointWin;
+    /** The chance of a single roll losing once each point is set. */
+    private final double[] myPointLoss;
+
+    /** The chance of winning a game. */
+    private final double myWinProbability;
+    /** The exact chance of winning a game. */
+    private final Fraction myExactWinProbability;
+    /** The expected amount of rolls in a game. */
+    private final double myExpectedRolls;
+
+    /**
+     * Solves the odds of the given rules.
+     *
+     * @param rules The rules to solve.
+     */
+    private CrapsOdds(CompiledRules rules) {
+        this.myRules = rules;
+        this.myPointChance = new double[RuleSet.MAX_SUM + 1];
+        this.myPointWin = new double[RuleSet.MAX_SUM + 1];
+        this.myPointLoss = new double[RuleSet.MAX_SUM + 1];
+
+        int comeOutWinWays = 0;
+        int comeOutLossWays = 0;
+        for (int sum = RuleSet.MIN_SUM; sum <= RuleSet.MAX_SUM; sum++) {
+            WinState result = rules.resolve(CompiledRules.COME_OUT, sum);
+            if (result == WinState.WON) {
+                comeOutWinWays += CrapsOdds.ways(sum);
+            } else if (result == WinState.LOSS) {
+                comeOutLossWays += CrapsOdds.ways(sum);
+            }
+        }
+
+        this.myComeOutWin = (double) comeOutWinWays / CrapsOdds.OUTCOMES;
+        this.myComeOutLoss = (double) comeOutLossWays / CrapsOdds.OUTCOMES;
+
+        double winProbability = this.myComeOutWin;
+        Fraction exactWinProbability = new Fraction(comeOutWinWays, CrapsOdds.OUTCOMES);
+        double expectedRolls = 1;
+
+        for (int point = RuleSet.MIN_SUM; point <= RuleSet.MAX_SUM; point++) {
+            if (!rules.isPoint(point)) {
+                continue;
+            }
+
+            int winWays = 0;
+            int lossWays = 0;
+            for (int sum = RuleSet.MIN_SUM; sum <= RuleSet.MAX_SUM; sum++) {
+                WinState result = rules.resolve(point, sum);
+                if (result == WinState.WON) {
+                    winWays += CrapsOdds.ways(sum);
+                } else if (result == WinState.LOSS) {
+                    lossWays += CrapsOdds.ways(sum);
+                }
+            }
+
+            this.myPointChance[point] = (double) CrapsOdds.ways(point) / CrapsOdds.OUTCOMES;
+            this.myPointWin[point] = (double) winWays / CrapsOdds.OUTCOMES;
+            this.myPointLoss[point] = (double) lossWays / CrapsOdds.OUTCOMES;
+
+            double resolve = this.myPointWin[point] + this.myPointLoss[point];
+            winProbability += this.myPointChance[point] * this.myPointWin[point] / resolve;
+            exactWinProbability = exactWinProbability.add(
+                new Fraction(CrapsOdds.ways(point), CrapsOdds.OUTCOMES)
+                    .multiply(new Fraction(winWays, winWays + lossWays))
+            );
+            expectedRolls += this.myPointChance[point] / resolve;
+        }
+
+        this.myWinProbability = winProbability;
+        this.myExactWinProbability = exactWinProbability;
+        this.myExpectedRolls = expectedRolls;
+    }
+
+    /**
+     * Gets the odds of the given rules, solving them only the first time they
+     * are asked for.
+     *
+     * @param rules The rules.
+     * @return The odds.
+     */
+    public static CrapsOdds of(CompiledRules rules) {
+        return CrapsOdds.CACHE.computeIfAbsent(Objects.requireNonNull(rules), CrapsOdds::new);
+    }
+
+    /**
+     * Gets the odds of the standard craps rules.
+     *
+     * @return The odds.
+     */
+    public static CrapsOdds standard() {
+        return CrapsOdds.of(CompiledRules.STANDARD);
+    }
+
+    /**
+     * Gets the amount of ways two dice can add up to the given sum.
+     *
+     * @param sum The sum.
+     * @return The amount of ways (0 if the sum cannot be rolled).
+     */
+    public static int ways(int sum) {
+        if (sum < RuleSet.MIN_SUM || sum > RuleSet.MAX_SUM) {
+            return 0;
+        }
+
+        return 6 - Math.abs(sum - 7);
+    }
+
+    /**
+     * Gets the rules these odds were solved for.
+     *
+     * @return The rules.
+     */
+    public CompiledRules getRules() {
+        return this.myRules;
+    }
+
+    /**
+     * Gets the chance of winning a game.
+     *
+     * @return The chance of winning.
+     */
+    public double getWinProbability() {
+        return this.myWinProbability;
+    }
+
+    /**
+     * Gets the exact chance of winning a game as a reduced fraction.
+     *
+     * @return The chance of winning.
+     */
+    public Fraction getExactWinProbability() {
+        return this.myExactWinProbability;
+    }
+
+    /**
+     * Gets the chance of losing a game.
+     *
+     * @return The chance of losing.
+     */
+    public double getLossProbability() {
+        return 1 - this.myWinProbability;
+    }
+
+    /**
+     * Gets how much of every bet the house keeps on average, since a win pays
+     * back twice the bet.
+     *
+     * @return The house edge.
+     */
+    public double getHouseEdge() {
+        return this.getLossProbability() - this.myWinProbability;
+    }
+
+    /**
+     * Gets the expected amount of rolls in a game.
+     *
+     * @return The expected amount of rolls.
+     */
+    public double getExpectedRolls() {
+        return this.myExpectedRolls;
+    }
+
+    /**
+     * Gets the chance of winning on the come-out roll.
+     *
+     * @return The chance.
+     */
+    public double getComeOutWinProbability() {
+        return this.myComeOutWin;
+    }
+
+    /**
+     * Gets the chance of losing on the come-out roll.
+     *
+     * @return The chance.
+     */
+    public double getComeOutLossProbability() {
+        return this.myComeOutLoss;
+    }
+
+    /**
+     * Gets the chance of the come-out roll setting the given point.
+     *
+     * @param point The point.
+     * @return The chance (0 if the sum is not a point).
+     */
+    public double getPointProbability(int point) {
+        return this.myRules.isPoint(point) ? this.myPointChance[point] : 0;
+    }
+
+    /**
+     * Gets the chance of a single roll ending the game once the given point
+     * is set.
+     *
+     * @param point The point.
+     * @return The chance (0 if the sum is not a point).
+     */
+    public double getPointResolveProbability(int point) {
+        return this.myRules.isPoint(point) ? this.myPointWin[point] + this.myPointLoss[point] : 0;
+    }
+
+    /**
+     * Gets the chance of winning once the given point is set.
+     *
+     * @param point The point.
+     * @return The chance (0 if the sum is not a point).
+     */
+    public double getPointWinProbability(int point) {
+        if (!this.myRules.isPoint(point)) {
+            return 0;
+        }
+
+        return this.myPointWin[point] / (this.myPointWin[point] + this.myPointLoss[point]);
+    }
+
+    /**
+     * Gets the chance of a game taking exactly the given amount of rolls.
+     *
+     * @param rolls The amount of rolls.
+     * @return The chance.
+     */
+    public double getLengthProbability(int rolls) {
+        if (rolls < 1) {
+            return 0;
+        } else if (rolls == 1) {
+            return this.myComeOutWin + this.myComeOutLoss;
+        }
+
+        double probability = 0;
+        for (int point = RuleSet.MIN_SUM; point <= RuleSet.MAX_SUM; point++) {
+            if (this.myRules.isPoint(point)) {
+                double resolve = this.myPointWin[point] + this.myPointLoss[point];
+                probability += this.myPointChance[point] * Math.pow(1 - resolve, rolls - 2) * resolve;
+            }
+        }
+
+        return probability;
+    }
+
+    /**
+     * Gets the chance of a game taking each amount of rolls up to the given
+     * amount, where index i holds the chance of taking i rolls.
+     *
+     * @param maxRolls The largest amount of rolls.
+     * @return The distribution (index 0 is always 0).
+     */
+    public double[] getLengthDistribution(int maxRolls) {
+        double[] distribution = new double[maxRolls + 1];
+        for (int rolls = 1; rolls <= maxRolls; rolls++) {
+            distribution[rolls] = this.getLengthProbability(rolls);
+        }
+
+        return distribution;
+    }
+
+    /**
+     * Fraction represents an exact, reduced, non-negative rational number.
+     */
+    public record Fraction(long numerator, long denominator) {
+        /**
+         * Constructs a reduced Fraction.
+         */
+        public Fraction {
+            if (denominator <= 0) {
+                throw new IllegalArgumentException("Denominator must be positive");
+            }
+
+            long divisor = Fraction.gcd(Math.abs(numerator), denominator);
+            if (divisor > 1) {
+                numerator /= divisor;
+                denominator /= divisor;
+            }
+        }
+
+        /**
+         * Gets the greatest common divisor of two numbers.
+         *
+         * @param a The first number.
+         * @param b The second number.
+         * @return The greatest common divisor.
+         */
+        private static long gcd(long a, long b) {
+            while (b != 0) {
+                long remainder = a % b;
+                a = b;
+                b = remainder;
+            }
+
+            return Math.max(a, 1);
+        }
+
+        /**
+         * Adds another Fraction to this one.
+         *
+         * @param other The Fraction to add.
+         * @return The sum.
+         */
+        public Fraction add(Fraction other) {
+            return new Fraction(
+                Math.addExact(Math.multiplyExact(this.numerator, other.denominator), Math.multiplyExact(other.numerator, this.denominator)),
+                Math.multiplyExact(this.denominator, other.denominator)
+            );
+        }
+
+        /**
+         * Multiplies this Fraction by another one.
+         *
+         * @param other The Fraction to multiply by.
+         * @return The product.
+         */
+        public Fraction multiply(Fraction other) {
+            return new Fraction(
+                Math.multiplyExact(this.numerator, other.numerator),
+                Math.multiplyExact(this.denominator, other.denominator)
+            );
+        }
+
+        /**
+         * Converts this Fraction into a double.
+         *
+         * @return The value of this Fraction.
+         */
+        public double toDouble() {
+            return (double) this.numerator / this.denominator;
+        }
+
+        @Override
+        public String toString() {
+            return this.numerator + "/" + this.denominator;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package model.analysis;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.random.RandomGenerator;
+
+import model.WinState;
+import model.rules.CompiledRules;
+import model.rules.RuleSet;
+
+/**
+ * GameSampler draws the outcome of a whole craps game straight from its
+ * exact distribution instead of rolling the dice until the game ends. The
+ * come-out roll is drawn from an alias table and the point phase from a
+ * geometric distribution, so every game costs the same handful of random
+ * numbers no matter how long it would have lasted.
+ */
+public final class GameSampler {
+    /** The amount of sums two dice can have. */
+    private static final int SUMS = RuleSet.MAX_SUM - RuleSet.MIN_SUM + 1;
+
+    /** The rules the games are played by. */
+    private final CompiledRules myRules;
+    /** The chance of keeping each column of the alias table. */
+    private final double[] myAliasChance;
+    /** The sum each column of the alias table falls back to. */
+    private final int[] myAlias;
+    /** log(1 - chance of a roll ending the game) for each point. */
+    private final double[] myLogStay;
+    /** The chance of winning once each point is set. */
+    private final double[] myPointWin;
+
+    /**
+     * Constructs a GameSampler for the given odds.
+     *
+     * @param odds The odds of the game.
+     */
+    public GameSampler(CrapsOdds odds) {
+        this.myRules = odds.getRules();
+        this.myAliasChance = new double[GameSampler.SUMS];
+        this.myAlias = new int[GameSampler.SUMS];
+        this.myLogStay = new double[RuleSet.MAX_SUM + 1];
+        this.myPointWin = new double[RuleSet.MAX_SUM + 1];
+
+        this.buildAliasTable();
+
+        for (int point = RuleSet.MIN_SUM; point <= RuleSet.MAX_SUM; point++) {
+            if (this.myRules.isPoint(point)) {
+                this.myLogStay[point] = Math.log(1 - odds.getPointResolveProbability(point));
+                this.myPointWin[point] = odds.getPointWinProbability(point);
+            }
+        }
+    }
+
+    /**
+     * Gets a GameSampler for the given rules.
+     *
+     * @param rules The rules.
+     * @return The GameSampler.
+     */
+    public static GameSampler of(CompiledRules rules) {
+        return new GameSampler(CrapsOdds.of(rules));
+    }
+
+    /**
+     * Builds the alias table of the come-out roll with Vose's method.
+     */
+    private void buildAliasTable() {
+        double[] scaled = new double[GameSampler.SUMS];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+
+        for (int column = 0; column < GameSampler.SUMS; column++) {
+            scaled[column] = (double) CrapsOdds.ways(column + RuleSet.MIN_SUM) * GameSampler.SUMS / CrapsOdds.OUTCOMES;
+            if (scaled[column] < 1) {
+                small.push(column);
+            } else {
+                large.push(column);
+            }
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+
+            this.myAliasChance[less] = scaled[less];
+            this.myAlias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+
+        while (!large.isEmpty()) {
+            this.myAliasChance[large.pop()] = 1;
+        }
+        while (!small.isEmpty()) {
+            this.myAliasChance[small.pop()] = 1;
+        }
+    }
+
+    /**
+     * Gets the rules the games are played by.
+     *
+     * @return The rules.
+     */
+    public CompiledRules getRules() {
+        return this.myRules;
+    }
+
+    /**
+     * Draws the sum of a come-out roll.
+     *
+     * @param random The generator to draw with.
+     * @return The sum.
+     */
+    public int sampleComeOut(RandomGenerator random) {
+        int column = random.nextInt(GameSampler.SUMS);
+        if (random.nextDouble() >= this.myAliasChance[column]) {
+            column = this.myAlias[column];
+        }
+
+        return column + RuleSet.MIN_SUM;
+    }
+
+    /**
+     * Draws the outcome of a whole game.
+     *
+     * @param random The generator to draw with.
+     * @return The outcome.
+     */
+    public SampledGame sample(RandomGenerator random) {
+        int sum = this.sampleComeOut(random);
+        WinState result = this.myRules.resolve(CompiledRules.COME_OUT, sum);
+        if (result != WinState.ONGOING) {
+            return new SampledGame(result, CompiledRules.COME_OUT, 1);
+        }
+
+        // rolls after the come-out roll until the point or a seven-out is hit
+        double uniform = 1 - random.nextDouble(); // (0, 1] so the log is finite
+        long extraRolls = 1 + (long) (Math.log(uniform) / this.myLogStay[sum]);
+        result = (random.nextDouble() < this.myPointWin[sum]) ? WinState.WON : WinState.LOSS;
+
+        return new SampledGame(result, sum, (int) Math.min(1 + extraRolls, Integer.MAX_VALUE));
+    }
+
+    /**
+     * SampledGame represents the outcome of a game drawn by a GameSampler.
+     *
+     * @param result Whether the game was won or lost.
+     * @param point The point of the game (CompiledRules.COME_OUT if the game
+     * ended on the come-out roll).
+     * @param rolls How many times the dice would have been rolled.
+     */
+    public record SampledGame(WinState result, int point, int rolls) { }
+}
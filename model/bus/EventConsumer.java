@@ -0,0 +1,122 @@
+package model.bus;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An EventConsumer reads the events of a PlayerEventBus in order and keeps
+ * track of the sequence of the last event it processed. The producer never
+ * overwrites an event a consumer has not processed yet, so every consumer
+ * sees every event published after it was added. A consumer belongs to a
+ * single thread.
+ */
+public final class EventConsumer {
+    /** The bus the consumer reads from. */
+    private final PlayerEventBus myBus;
+    /** How the consumer waits for new events. */
+    private final WaitStrategy myWaitStrategy;
+    /** The sequence of the last processed event. */
+    private final AtomicLong mySequence;
+    /** The reused view of the current event. */
+    private final PlayerEvent myEvent;
+    /** Whether the consumer stopped consuming. */
+    private volatile boolean myHalted;
+
+    /**
+     * Constructs an EventConsumer.
+     *
+     * @param bus The bus to read from.
+     * @param waitStrategy How to wait for new events.
+     * @param sequence The sequence of the last event to skip.
+     */
+    EventConsumer(PlayerEventBus bus, WaitStrategy waitStrategy, long sequence) {
+        this.myBus = bus;
+        this.myWaitStrategy = waitStrategy;
+        this.mySequence = new AtomicLong(sequence);
+        this.myEvent = new PlayerEvent(bus);
+        this.myHalted = false;
+    }
+
+    /**
+     * Gets the sequence of the last processed event.
+     *
+     * @return The sequence.
+     */
+    public long getSequence() {
+        return this.mySequence.get();
+    }
+
+    /**
+     * Gets how the consumer waits for new events.
+     *
+     * @return The wait strategy.
+     */
+    WaitStrategy getWaitStrategy() {
+        return this.myWaitStrategy;
+    }
+
+    /**
+     * Checks if the consumer was halted.
+     *
+     * @return True if the consumer was halted.
+     */
+    public boolean isHalted() {
+        return this.myHalted;
+    }
+
+    /**
+     * Processes every event published so far without waiting.
+     *
+     * @param handler The handler to process the events with.
+     * @return The amount of events processed.
+     */
+    public int poll(EventHandler handler) {
+        return this.process(handler, this.myBus.getCursor());
+    }
+
+    /**
+     * Waits for at least one new event with the wait strategy and processes
+     * every event published so far.
+     *
+     * @param handler The handler to process the events with.
+     * @return The amount of events processed (0 if the consumer was halted).
+     */
+    public int take(EventHandler handler) {
+        long next = this.mySequence.get() + 1;
+        long available = this.myWaitStrategy.waitFor(next, this.myBus.getCursorReference(), this);
+
+        return (available < next) ? 0 : this.process(handler, available);
+    }
+
+    /**
+     * Processes the events up to the given sequence and then lets the
+     * producer reuse their slots.
+     *
+     * @param handler The handler to process the events with.
+     * @param available The sequence of the last event to process.
+     * @return The amount of events processed.
+     */
+    private int process(EventHandler handler, long available) {
+        long sequence = this.mySequence.get();
+        if (available <= sequence || this.myHalted) {
+            return 0;
+        }
+
+        for (long next = sequence + 1; next <= available; next++) {
+            this.myEvent.moveTo(this.myBus.slotOf(next));
+            handler.onEvent(this.myEvent, next, next == available);
+        }
+        this.mySequence.lazySet(available);
+
+        return (int) (available - sequence);
+    }
+
+    /**
+     * Stops the consumer: a waiting take returns and the producer no longer
+     * waits for this consumer.
+     */
+    public void halt() {
+        this.myHalted = true;
+        this.myBus.removeConsumer(this);
+        this.myWaitStrategy.signal();
+    }
+}
@@ -0,0 +1,18 @@
+package model.bus;
+
+/**
+ * An EventHandler processes the events an EventConsumer reads from a
+ * PlayerEventBus.
+ */
+@FunctionalInterface
+public interface EventHandler {
+    /**
+     * Processes an event. The event is a view of a slot in the ring and is
+     * only valid until this method returns.
+     *
+     * @param event The event.
+     * @param sequence The sequence of the event.
+     * @param endOfBatch True if this is the last event currently available.
+     */
+    void onEvent(PlayerEvent event, long sequence, boolean endOfBatch);
+}
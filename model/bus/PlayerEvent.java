@@ -0,0 +1,127 @@
+package model.bus;
+
+import model.PlayerChange;
+import model.WinState;
+
+/**
+ * A PlayerEvent is a view of one slot of a PlayerEventBus. It copies
+ * nothing: every getter reads straight from the ring, so the same view is
+ * reused for every event a consumer reads.
+ */
+public final class PlayerEvent {
+    /** The bus the view reads from. */
+    private final PlayerEventBus myBus;
+    /** The slot the view currently points at. */
+    private int mySlot;
+
+    /**
+     * Constructs a view of the given bus.
+     *
+     * @param bus The bus.
+     */
+    PlayerEvent(PlayerEventBus bus) {
+        this.myBus = bus;
+        this.mySlot = 0;
+    }
+
+    /**
+     * Points the view at the given slot.
+     *
+     * @param slot The slot.
+     */
+    void moveTo(int slot) {
+        this.mySlot = slot;
+    }
+
+    /**
+     * Gets the fields that changed (a combination of the PlayerChange field
+     * bits).
+     *
+     * @return The fields.
+     */
+    public int getType() {
+        return this.myBus.myTypes[this.mySlot];
+    }
+
+    /**
+     * Checks if the given field changed.
+     *
+     * @param field The PlayerChange field bit.
+     * @return True if the field changed.
+     */
+    public boolean has(int field) {
+        return (this.getType() & field) != 0;
+    }
+
+    /**
+     * Gets the id of the table the event came from.
+     *
+     * @return The table id.
+     */
+    public int getTable() {
+        return this.myBus.myTables[this.mySlot];
+    }
+
+    /**
+     * Gets die #1 (0 if the dice were not rolled).
+     *
+     * @return Die #1.
+     */
+    public int getDie1() {
+        return this.myBus.myDie1[this.mySlot];
+    }
+
+    /**
+     * Gets die #2 (0 if the dice were not rolled).
+     *
+     * @return Die #2.
+     */
+    public int getDie2() {
+        return this.myBus.myDie2[this.mySlot];
+    }
+
+    /**
+     * Gets the bank after the change.
+     *
+     * @return The bank.
+     */
+    public int getBank() {
+        return this.myBus.myBanks[this.mySlot];
+    }
+
+    /**
+     * Gets the bet after the change.
+     *
+     * @return The bet.
+     */
+    public int getBet() {
+        return this.myBus.myBets[this.mySlot];
+    }
+
+    /**
+     * Gets the point that was set (-1 if none was set).
+     *
+     * @return The point.
+     */
+    public int getPoint() {
+        return this.myBus.myPoints[this.mySlot];
+    }
+
+    /**
+     * Checks if the player is playing after the change.
+     *
+     * @return True if the player is playing.
+     */
+    public boolean isPlaying() {
+        return this.myBus.myPlaying[this.mySlot];
+    }
+
+    /**
+     * Gets the outcome of the game that ended.
+     *
+     * @return The outcome (null if no game ended).
+     */
+    public WinState getResult() {
+        return this.has(PlayerChange.RESULT) ? PlayerEventBus.RESULTS[this.myBus.myResults[this.mySlot]] : null;
+    }
+}
@@ -0,0 +1,223 @@
+package model.bus;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import model.WinState;
+
+/**
+ * PlayerEventBus is a preallocated ring of player events between a single
+ * producer (the thread that runs the tables) and any amount of consumers.
+ * Every field of an event lives in its own array, so publishing an event is
+ * a handful of primitive stores and one ordered write of the cursor: nothing
+ * is allocated and no lock is taken. Consumers read the events in order
+ * behind the cursor, and the producer waits rather than overwrite an event a
+ * consumer has not processed yet.
+ *
+ * Events use the field bits of PlayerChange as their type.
+ */
+public final class PlayerEventBus {
+    /** The outcomes, indexed by ordinal. */
+    static final WinState[] RESULTS = WinState.values();
+
+    /** The amount of slots (a power of two). */
+    private final int myCapacity;
+    /** Turns a sequence into a slot. */
+    private final int myMask;
+
+    /** The fields that changed in each slot. */
+    final int[] myTypes;
+    /** The table of each slot. */
+    final int[] myTables;
+    /** Die #1 of each slot. */
+    final int[] myDie1;
+    /** Die #2 of each slot. */
+    final int[] myDie2;
+    /** The bank of each slot. */
+    final int[] myBanks;
+    /** The bet of each slot. */
+    final int[] myBets;
+    /** The point of each slot. */
+    final int[] myPoints;
+    /** The outcome ordinal of each slot. */
+    final int[] myResults;
+    /** Whether the player is playing in each slot. */
+    final boolean[] myPlaying;
+
+    /** The sequence of the latest published event. */
+    private final AtomicLong myCursor;
+    /** The sequence the next event is published at (producer only). */
+    private long myNext;
+    /** The lowest consumer sequence seen last time (producer only). */
+    private long myCachedGate;
+    /** The consumers the producer must not overtake. */
+    private final AtomicReference<EventConsumer[]> myConsumers;
+
+    /**
+     * Constructs a PlayerEventBus.
+     *
+     * @param capacity The amount of slots (a power of two).
+     */
+    public PlayerEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+
+        this.myCapacity = capacity;
+        this.myMask = capacity - 1;
+        this.myTypes = new int[capacity];
+        this.myTables = new int[capacity];
+        this.myDie1 = new int[capacity];
+        this.myDie2 = new int[capacity];
+        this.myBanks = new int[capacity];
+        this.myBets = new int[capacity];
+        this.myPoints = new int[capacity];
+        this.myResults = new int[capacity];
+        this.myPlaying = new boolean[capacity];
+        this.myCursor = new AtomicLong(-1);
+        this.myNext = 0;
+        this.myCachedGate = -1;
+        this.myConsumers = new AtomicReference<>(new EventConsumer[0]);
+    }
+
+    /**
+     * Gets the amount of slots.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.myCapacity;
+    }
+
+    /**
+     * Gets the sequence of the latest published event.
+     *
+     * @return The sequence (-1 if nothing was published).
+     */
+    public long getCursor() {
+        return this.myCursor.get();
+    }
+
+    /**
+     * Gets the cursor for wait strategies.
+     *
+     * @return The cursor.
+     */
+    AtomicLong getCursorReference() {
+        return this.myCursor;
+    }
+
+    /**
+     * Gets the slot the given sequence is stored in.
+     *
+     * @param sequence The sequence.
+     * @return The slot.
+     */
+    int slotOf(long sequence) {
+        return (int) (sequence & this.myMask);
+    }
+
+    /**
+     * Adds a consumer that reads every event published from now on.
+     *
+     * @param waitStrategy How the consumer waits for new events.
+     * @return The consumer.
+     */
+    public EventConsumer addConsumer(WaitStrategy waitStrategy) {
+        EventConsumer consumer;
+        EventConsumer[] current;
+        EventConsumer[] next;
+        do {
+            current = this.myConsumers.get();
+            consumer = new EventConsumer(this, waitStrategy, this.myCursor.get());
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = consumer;
+        } while (!this.myConsumers.compareAndSet(current, next));
+
+        return consumer;
+    }
+
+    /**
+     * Removes a consumer so the producer no longer waits for it.
+     *
+     * @param consumer The consumer.
+     */
+    void removeConsumer(EventConsumer consumer) {
+        EventConsumer[] current;
+        EventConsumer[] next;
+        do {
+            current = this.myConsumers.get();
+            next = Arrays.stream(current).filter((EventConsumer other) -> other != consumer).toArray(EventConsumer[]::new);
+        } while (!this.myConsumers.compareAndSet(current, next));
+    }
+
+    /**
+     * Gets the sequence of the slowest consumer.
+     *
+     * @param consumers The consumers.
+     * @param fallback The sequence to use if there are no consumers.
+     * @return The sequence.
+     */
+    private static long minimumSequence(EventConsumer[] consumers, long fallback) {
+        long minimum = fallback;
+        for (EventConsumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.getSequence());
+        }
+
+        return minimum;
+    }
+
+    /**
+     * Publishes an event. Must only be called from the producer thread.
+     *
+     * @param type The fields that changed (PlayerChange field bits).
+     * @param table The table the event came from.
+     * @param die1 Die #1 (0 if the dice were not rolled).
+     * @param die2 Die #2 (0 if the dice were not rolled).
+     * @param bank The bank after the change.
+     * @param bet The bet after the change.
+     * @param point The point that was set (-1 if none was set).
+     * @param result The outcome ordinal of the game that ended (ignored
+     * unless type has PlayerChange.RESULT).
+     * @param playing Whether the player is playing after the change.
+     * @return The sequence of the event.
+     */
+    public long publish(int type, int table, int die1, int die2, int bank, int bet,
+                        int point, int result, boolean playing) {
+        long sequence = this.myNext;
+        EventConsumer[] consumers = this.myConsumers.get();
+
+        long wrapPoint = sequence - this.myCapacity;
+        if (wrapPoint > this.myCachedGate) {
+            long gate;
+            while (wrapPoint > (gate = PlayerEventBus.minimumSequence(consumers, sequence - 1))) {
+                Thread.onSpinWait();
+                consumers = this.myConsumers.get();
+            }
+            this.myCachedGate = gate;
+        }
+
+        int slot = this.slotOf(sequence);
+        this.myTypes[slot] = type;
+        this.myTables[slot] = table;
+        this.myDie1[slot] = die1;
+        this.myDie2[slot] = die2;
+        this.myBanks[slot] = bank;
+        this.myBets[slot] = bet;
+        this.myPoints[slot] = point;
+        this.myResults[slot] = result;
+        this.myPlaying[slot] = playing;
+
+        this.myNext = sequence + 1;
+        this.myCursor.lazySet(sequence); // the slot's stores become visible before the cursor does
+
+        for (EventConsumer consumer : consumers) {
+            if (consumer.getWaitStrategy().isBlocking()) {
+                consumer.getWaitStrategy().signal();
+            }
+        }
+
+        return sequence;
+    }
+}
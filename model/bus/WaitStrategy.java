@@ -0,0 +1,151 @@
+package model.bus;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A WaitStrategy decides how an EventConsumer waits for the producer to
+ * publish the next event: spinning gives the lowest latency but keeps a core
+ * busy, while sleeping and blocking give the core back at the cost of
+ * latency.
+ */
+public interface WaitStrategy {
+    /**
+     * Waits until the event with the given sequence is published or the
+     * consumer is halted.
+     *
+     * @param sequence The sequence to wait for.
+     * @param cursor The sequence of the latest published event.
+     * @param consumer The waiting consumer.
+     * @return The sequence of the latest published event (less than the
+     * given sequence if the consumer was halted).
+     */
+    long waitFor(long sequence, AtomicLong cursor, EventConsumer consumer);
+
+    /**
+     * Wakes up consumers blocked in waitFor. The producer calls this after
+     * every publish, but only if isBlocking() is true.
+     */
+    default void signal() { }
+
+    /**
+     * Checks if waiting consumers need to be woken up by signal.
+     *
+     * @return True if signal has to be called after publishing.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * Gets a strategy that spins on the cursor.
+     *
+     * @return The strategy.
+     */
+    static WaitStrategy busySpin() {
+        return (long sequence, AtomicLong cursor, EventConsumer consumer) -> {
+            long available;
+            while ((available = cursor.get()) < sequence && !consumer.isHalted()) {
+                Thread.onSpinWait();
+            }
+
+            return available;
+        };
+    }
+
+    /**
+     * Gets a strategy that spins for a while and then yields the thread
+     * between checks.
+     *
+     * @return The strategy.
+     */
+    static WaitStrategy yielding() {
+        return (long sequence, AtomicLong cursor, EventConsumer consumer) -> {
+            int spins = 100;
+            long available;
+            while ((available = cursor.get()) < sequence && !consumer.isHalted()) {
+                if (spins > 0) {
+                    spins--;
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+
+            return available;
+        };
+    }
+
+    /**
+     * Gets a strategy that parks the thread for the given time between
+     * checks.
+     *
+     * @param pause The time to park between checks.
+     * @return The strategy.
+     */
+    static WaitStrategy sleeping(Duration pause) {
+        long nanos = pause.toNanos();
+
+        return (long sequence, AtomicLong cursor, EventConsumer consumer) -> {
+            long available;
+            while ((available = cursor.get()) < sequence && !consumer.isHalted()) {
+                LockSupport.parkNanos(nanos);
+            }
+
+            return available;
+        };
+    }
+
+    /**
+     * Gets a strategy that blocks on a condition until the producer signals
+     * it. Consumers using it take no CPU while idle, but every publish takes
+     * a lock to wake them.
+     *
+     * @return The strategy.
+     */
+    static WaitStrategy blocking() {
+        return new WaitStrategy() {
+            /** Guards the condition. */
+            private final ReentrantLock myLock = new ReentrantLock();
+            /** Signalled after every publish. */
+            private final Condition myPublished = this.myLock.newCondition();
+
+            @Override
+            public long waitFor(long sequence, AtomicLong cursor, EventConsumer consumer) {
+                long available = cursor.get();
+                if (available >= sequence) {
+                    return available;
+                }
+
+                this.myLock.lock();
+                try {
+                    while ((available = cursor.get()) < sequence && !consumer.isHalted()) {
+                        this.myPublished.awaitUninterruptibly();
+                    }
+                } finally {
+                    this.myLock.unlock();
+                }
+
+                return available;
+            }
+
+            @Override
+            public void signal() {
+                this.myLock.lock();
+                try {
+                    this.myPublished.signalAll();
+                } finally {
+                    this.myLock.unlock();
+                }
+            }
+
+            @Override
+            public boolean isBlocking() {
+                return true;
+            }
+        };
+    }
+}
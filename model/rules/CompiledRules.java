@@ -0,0 +1,179 @@
+package model.rules;
+
+import java.util.Arrays;
+
+import model.WinState;
+
+/**
+ * CompiledRules represents a RuleSet flattened into a primitive lookup table
+ * so that resolving a roll is a single array load. The table is indexed by
+ * (point, sum) where the come-out roll uses the point COME_OUT.
+ */
+public final class CompiledRules {
+    /** The point used to look up come-out rolls. */
+    public static final int COME_OUT = 0;
+    /** The width of a single row of the table. */
+    private static final int ROW_SIZE = RuleSet.MAX_SUM + 1;
+    /** Every WinState indexed by its ordinal. */
+    private static final WinState[] STATES = WinState.values();
+    /** The standard craps rules. */
+    public static final CompiledRules STANDARD = RuleSet.standard().compile();
+
+    /**
+     * The outcome ordinal of every (point, sum) pair, indexed by
+     * point * ROW_SIZE + sum.
+     */
+    private final byte[] myTable;
+    /** The sums that win on the come-out roll (bit n is set for sum n). */
+    private final int myNaturalMask;
+    /** The sums that lose on the come-out roll (bit n is set for sum n). */
+    private final int myCrapsMask;
+    /** The sum that loses once a point is set. */
+    private final int mySevenOut;
+
+    /**
+     * Compiles the given RuleSet.
+     *
+     * @param rules The rules to compile.
+     */
+    CompiledRules(RuleSet rules) {
+        int naturalMask = 0;
+        for (int sum : rules.getNaturals()) {
+            naturalMask |= 1 << sum;
+        }
+        int crapsMask = 0;
+        for (int sum : rules.getCraps()) {
+            crapsMask |= 1 << sum;
+        }
+
+        if ((naturalMask & crapsMask) != 0) {
+            throw new IllegalArgumentException("A sum cannot both win and lose on the come-out roll");
+        }
+        if (((naturalMask | crapsMask) & (1 << rules.getSevenOut())) == 0) {
+            throw new IllegalArgumentException("The seven-out sum cannot also be a point");
+        }
+
+        this.myNaturalMask = naturalMask;
+        this.myCrapsMask = crapsMask;
+        this.mySevenOut = rules.getSevenOut();
+        this.myTable = new byte[CompiledRules.ROW_SIZE * CompiledRules.ROW_SIZE];
+
+        for (int sum = RuleSet.MIN_SUM; sum <= RuleSet.MAX_SUM; sum++) {
+            this.set(CompiledRules.COME_OUT, sum, this.getComeOutResult(sum));
+        }
+        for (int point = RuleSet.MIN_SUM; point <= RuleSet.MAX_SUM; point++) {
+            if (!this.isPoint(point)) {
+                continue;
+            }
+
+            for (int sum = RuleSet.MIN_SUM; sum <= RuleSet.MAX_SUM; sum++) {
+                if (sum == point) {
+                    this.set(point, sum, WinState.WON);
+                } else if (sum == this.mySevenOut) {
+                    this.set(point, sum, WinState.LOSS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the outcome of a (point, sum) pair.
+     *
+     * @param point The point.
+     * @param sum The sum.
+     * @param state The outcome.
+     */
+    private void set(int point, int sum, WinState state) {
+        this.myTable[point * CompiledRules.ROW_SIZE + sum] = (byte) state.ordinal();
+    }
+
+    /**
+     * Gets the outcome of a come-out roll while the table is being built.
+     *
+     * @param sum The sum of the roll.
+     * @return The outcome.
+     */
+    private WinState getComeOutResult(int sum) {
+        if ((this.myNaturalMask & (1 << sum)) != 0) {
+            return WinState.WON;
+        } else if ((this.myCrapsMask & (1 << sum)) != 0) {
+            return WinState.LOSS;
+        }
+
+        return WinState.ONGOING;
+    }
+
+    /**
+     * Gets the outcome of rolling the given sum.
+     *
+     * @param point The point of the game (COME_OUT on the come-out roll).
+     * @param sum The sum of the roll.
+     * @return The outcome.
+     */
+    public WinState resolve(int point, int sum) {
+        return CompiledRules.STATES[this.myTable[point * CompiledRules.ROW_SIZE + sum]];
+    }
+
+    /**
+     * Gets the ordinal of the outcome of rolling the given sum. This avoids
+     * going through the WinState array in loops over primitive arrays.
+     *
+     * @param point The point of the game (COME_OUT on the come-out roll).
+     * @param sum The sum of the roll.
+     * @return The ordinal of the outcome.
+     */
+    public int resolveOrdinal(int point, int sum) {
+        return this.myTable[point * CompiledRules.ROW_SIZE + sum];
+    }
+
+    /**
+     * Checks if the given sum becomes the point when it is rolled on the
+     * come-out roll.
+     *
+     * @param sum The sum.
+     * @return True if the sum is a point.
+     */
+    public boolean isPoint(int sum) {
+        return sum >= RuleSet.MIN_SUM && sum <= RuleSet.MAX_SUM
+            && ((this.myNaturalMask | this.myCrapsMask) & (1 << sum)) == 0;
+    }
+
+    /**
+     * Gets the sums that win on the come-out roll as a bit mask where bit n
+     * is set for sum n.
+     *
+     * @return The mask.
+     */
+    public int getNaturalMask() {
+        return this.myNaturalMask;
+    }
+
+    /**
+     * Gets the sums that lose on the come-out roll as a bit mask where bit n
+     * is set for sum n.
+     *
+     * @return The mask.
+     */
+    public int getCrapsMask() {
+        return this.myCrapsMask;
+    }
+
+    /**
+     * Gets the sum that loses once a point is set.
+     *
+     * @return The sum.
+     */
+    public int getSevenOut() {
+        return this.mySevenOut;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return (other instanceof CompiledRules) && Arrays.equals(this.myTable, ((CompiledRules) other).myTable);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.myTable);
+    }
+}
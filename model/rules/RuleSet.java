@@ -0,0 +1,141 @@
+package model.rules;
+
+import java.util.Arrays;
+
+/**
+ * RuleSet represents the rules of a craps variant before they are compiled
+ * into lookup tables. A sum that is neither a natural nor craps on the
+ * come-out roll becomes the point.
+ */
+public class RuleSet {
+    /** The smallest sum two dice can have. */
+    public static final int MIN_SUM = 2;
+    /** The largest sum two dice can have. */
+    public static final int MAX_SUM = 12;
+
+    /** The sums that win on the come-out roll. */
+    private int[] myNaturals;
+    /** The sums that lose on the come-out roll. */
+    private int[] myCraps;
+    /** The sum that loses once a point is set. */
+    private int mySevenOut;
+
+    /**
+     * Constructs a RuleSet with the standard craps rules.
+     */
+    public RuleSet() {
+        this.myNaturals = new int[] {7, 11};
+        this.myCraps = new int[] {2, 3, 12};
+        this.mySevenOut = 7;
+    }
+
+    /**
+     * Creates a RuleSet with the standard craps rules: 7 and 11 win and 2, 3
+     * and 12 lose on the come-out roll, and 7 loses once a point is set.
+     *
+     * @return The RuleSet.
+     */
+    public static RuleSet standard() {
+        return new RuleSet();
+    }
+
+    /**
+     * Creates a RuleSet for crapless craps: only 7 wins on the come-out roll,
+     * nothing loses on it, and every other sum becomes the point.
+     *
+     * @return The RuleSet.
+     */
+    public static RuleSet crapless() {
+        return new RuleSet()
+            .naturals(7)
+            .craps();
+    }
+
+    /**
+     * Sets the sums that win on the come-out roll.
+     *
+     * @param sums The sums.
+     * @return This RuleSet.
+     */
+    public RuleSet naturals(int... sums) {
+        this.myNaturals = RuleSet.checkSums(sums);
+
+        return this;
+    }
+
+    /**
+     * Sets the sums that lose on the come-out roll.
+     *
+     * @param sums The sums.
+     * @return This RuleSet.
+     */
+    public RuleSet craps(int... sums) {
+        this.myCraps = RuleSet.checkSums(sums);
+
+        return this;
+    }
+
+    /**
+     * Sets the sum that loses once a point is set.
+     *
+     * @param sum The sum.
+     * @return This RuleSet.
+     */
+    public RuleSet sevenOut(int sum) {
+        this.mySevenOut = RuleSet.checkSums(sum)[0];
+
+        return this;
+    }
+
+    /**
+     * Gets the sums that win on the come-out roll.
+     *
+     * @return A copy of the sums.
+     */
+    public int[] getNaturals() {
+        return Arrays.copyOf(this.myNaturals, this.myNaturals.length);
+    }
+
+    /**
+     * Gets the sums that lose on the come-out roll.
+     *
+     * @return A copy of the sums.
+     */
+    public int[] getCraps() {
+        return Arrays.copyOf(this.myCraps, this.myCraps.length);
+    }
+
+    /**
+     * Gets the sum that loses once a point is set.
+     *
+     * @return The sum.
+     */
+    public int getSevenOut() {
+        return this.mySevenOut;
+    }
+
+    /**
+     * Compiles this RuleSet into lookup tables.
+     *
+     * @return The compiled rules.
+     */
+    public CompiledRules compile() {
+        return new CompiledRules(this);
+    }
+
+    /**
+     * Checks that every given sum can be rolled with two dice.
+     *
+     * @param sums The sums to check.
+     * @return A copy of the sums.
+     */
+    private static int[] checkSums(int... sums) {
+        for (int sum : sums) {
+            if (sum < RuleSet.MIN_SUM || sum > RuleSet.MAX_SUM) {
+                throw new IllegalArgumentException("Sum " + sum + " cannot be rolled with two dice");
+            }
+        }
+
+        return Arrays.copyOf(sums, sums.length);
+    }
+}
@@ -0,0 +1,119 @@
+package model.sim;
+
+import model.BetPolicy;
+import model.CrapsPlayer;
+import model.WinState;
+
+/**
+ * AutoPlayer plays whole games for a player, betting what a BetPolicy
+ * decides. It goes through the player's public operations, so an observed
+ * player publishes every bet, roll and result like it does when a person
+ * plays.
+ */
+public class AutoPlayer {
+    /** The player the games are played for. */
+    private final CrapsPlayer myPlayer;
+    /** Decides the bet of every game. */
+    private BetPolicy myPolicy;
+    /** The bet of the previous game (0 before the first game). */
+    private int myLastBet;
+    /** The outcome of the previous game (null before the first game). */
+    private WinState myLastResult;
+
+    /**
+     * Constructs an AutoPlayer.
+     *
+     * @param player The player the games are played for.
+     * @param policy Decides the bet of every game.
+     */
+    public AutoPlayer(CrapsPlayer player, BetPolicy policy) {
+        if (player == null || policy == null) {
+            throw new IllegalArgumentException("Player and policy must not be null");
+        }
+
+        this.myPlayer = player;
+        this.myPolicy = policy;
+        this.myLastBet = 0;
+        this.myLastResult = null;
+    }
+
+    /**
+     * Gets the player the games are played for.
+     *
+     * @return The player.
+     */
+    public CrapsPlayer getPlayer() {
+        return this.myPlayer;
+    }
+
+    /**
+     * Sets the policy that decides the bet of every game.
+     *
+     * @param policy The policy.
+     */
+    public void setPolicy(BetPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy must not be null");
+        }
+
+        this.myPolicy = policy;
+    }
+
+    /**
+     * Gets the bet of the previous game.
+     *
+     * @return The bet (0 before the first game).
+     */
+    public int getLastBet() {
+        return this.myLastBet;
+    }
+
+    /**
+     * Gets the outcome of the previous game.
+     *
+     * @return The outcome (null before the first game).
+     */
+    public WinState getLastResult() {
+        return this.myLastResult;
+    }
+
+    /**
+     * Forgets the previous game, so the policy bets as if no game was played.
+     */
+    public void reset() {
+        this.myLastBet = 0;
+        this.myLastResult = null;
+    }
+
+    /**
+     * Plays one whole game: bets what the policy decides, starts the game and
+     * rolls until it ends. A game the player is already in is finished
+     * instead, with its current bet.
+     *
+     * @return The outcome (ONGOING if no game was played because the bank is
+     * empty or the policy stopped).
+     */
+    public WinState playGame() {
+        int wins = this.myPlayer.getMyWins();
+
+        if (!this.myPlayer.isPlaying()) {
+            int bank = this.myPlayer.getBank();
+            int bet = (bank <= 0) ? 0 : this.myPolicy.nextBet(bank, this.myLastBet, this.myLastResult);
+            if (bet <= 0) {
+                return WinState.ONGOING;
+            }
+
+            this.myPlayer.setBet(bet);
+            this.myPlayer.startGame();
+        }
+
+        while (this.myPlayer.isPlaying()) {
+            this.myPlayer.continueGame();
+        }
+
+        this.myLastBet = this.myPlayer.getMyLastBet();
+        this.myLastResult = (this.myPlayer.getMyWins() > wins) ? WinState.WON : WinState.LOSS;
+
+        return this.myLastResult;
+    }
+}
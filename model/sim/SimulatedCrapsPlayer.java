@@ -0,0 +1,44 @@
+package model.sim;
+
+import model.CrapsPlayer;
+import model.WinState;
+
+/**
+ * SimulatedCrapsPlayer is a CrapsPlayer that keeps track of how many times
+ * the dice were rolled so that game lengths can be measured.
+ */
+class SimulatedCrapsPlayer extends CrapsPlayer {
+    /** How many times the dice were rolled since the last reset. */
+    private int myRolls;
+
+    /**
+     * Constructs a simulated player.
+     */
+    SimulatedCrapsPlayer() {
+        super();
+        this.myRolls = 0;
+    }
+
+    /**
+     * Gets the amount of rolls since the last reset.
+     *
+     * @return The amount of rolls.
+     */
+    int getRolls() {
+        return this.myRolls;
+    }
+
+    /**
+     * Sets the roll counter back to zero.
+     */
+    void resetRolls() {
+        this.myRolls = 0;
+    }
+
+    @Override
+    protected WinState rollDice() {
+        this.myRolls += 1;
+
+        return super.rollDice();
+    }
+}
@@ -0,0 +1,259 @@
+package model.sim;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+import model.DieFaceGenerator;
+import model.RandomGenerators;
+import model.analysis.GameSampler;
+import model.rules.CompiledRules;
+
+/**
+ * Simulation plays many complete craps games without any user interface and
+ * aggregates their results. The games are split across every core of the
+ * machine using fork-join work stealing.
+ */
+public class Simulation {
+    /** The default amount of games a single task plays before splitting. */
+    private static final long DEFAULT_GAMES_PER_TASK = 1 << 16;
+
+    /** The amount of games to play. */
+    private long myGames;
+    /** The bank every bankroll starts with. */
+    private int myStartingBank;
+    /** The bet placed on every game. */
+    private int myBet;
+    /** The most games a single task plays without splitting. */
+    private long myGamesPerTask;
+    /** The pool that runs the tasks. */
+    private ForkJoinPool myPool;
+    /** 
+     * The generator that is split between the tasks (null if a randomly 
+     * seeded one should be used).
+     */
+    private SplittableGenerator myRandom;
+    /** 
+     * True if the outcome of every game is drawn directly instead of rolling
+     * the dice.
+     */
+    private boolean mySampled;
+
+    /**
+     * Constructs a Simulation of one game with a bank of 100 betting 1.
+     */
+    public Simulation() {
+        this.myGames = 1;
+        this.myStartingBank = 100;
+        this.myBet = 1;
+        this.myGamesPerTask = Simulation.DEFAULT_GAMES_PER_TASK;
+        this.myPool = ForkJoinPool.commonPool();
+        this.myRandom = null;
+        this.mySampled = false;
+    }
+
+    /**
+     * Sets the amount of games to play.
+     *
+     * @param games The amount of games.
+     * @return This Simulation.
+     */
+    public Simulation games(long games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Amount of games cannot be negative");
+        }
+        this.myGames = games;
+
+        return this;
+    }
+
+    /**
+     * Sets the bank every bankroll starts with. A bankroll that can no longer
+     * cover the bet is restarted with this bank.
+     *
+     * @param bank The starting bank.
+     * @return This Simulation.
+     */
+    public Simulation startingBank(int bank) {
+        this.myStartingBank = bank;
+
+        return this;
+    }
+
+    /**
+     * Sets the bet placed on every game.
+     *
+     * @param bet The bet.
+     * @return This Simulation.
+     */
+    public Simulation bet(int bet) {
+        this.myBet = bet;
+
+        return this;
+    }
+
+    /**
+     * Sets the most games a single task plays before it splits itself.
+     *
+     * @param games The amount of games per task.
+     * @return This Simulation.
+     */
+    public Simulation gamesPerTask(long games) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("Games per task must be positive");
+        }
+        this.myGamesPerTask = games;
+
+        return this;
+    }
+
+    /**
+     * Sets the pool that runs the simulation.
+     *
+     * @param pool The pool.
+     * @return This Simulation.
+     */
+    public Simulation pool(ForkJoinPool pool) {
+        this.myPool = pool;
+
+        return this;
+    }
+
+    /**
+     * Sets the generator that is split between the tasks. Every task rolls
+     * with its own split so the workers never share a generator. Generators
+     * with the same seed give the same results run for run, but every run
+     * splits the generator again and so advances it, so a second run of the
+     * same Simulation plays different games.
+     *
+     * @param random The generator to split.
+     * @return This Simulation.
+     */
+    public Simulation random(SplittableGenerator random) {
+        this.myRandom = random;
+
+        return this;
+    }
+
+    /**
+     * Sets whether the outcome of every game is drawn straight from its exact
+     * distribution instead of rolling the dice until the game ends. Both 
+     * modes give statistically identical results but sampling costs the same
+     * for every game no matter how long it is.
+     *
+     * @param sampled True if the games should be sampled.
+     * @return This Simulation.
+     */
+    public Simulation sampled(boolean sampled) {
+        this.mySampled = sampled;
+
+        return this;
+    }
+
+    /**
+     * Plays every game and waits for the aggregated result. Each run advances
+     * the generator set by random, so it plays different games than the run
+     * before.
+     *
+     * @return The aggregated result.
+     */
+    public SimulationResult run() {
+        if (this.myBet <= 0 || this.myBet > this.myStartingBank) {
+            throw new IllegalArgumentException("Bet not legal");
+        }
+
+        SplittableGenerator random = (this.myRandom == null) ? RandomGenerators.splittable() : this.myRandom.split();
+
+        GameSampler sampler = this.mySampled ? GameSampler.of(CompiledRules.STANDARD) : null;
+
+        return this.myPool.invoke(new Simulation.Task(this, this.myGames, random, sampler));
+    }
+
+    /**
+     * Task plays a share of the games of a Simulation, splitting itself in
+     * half while its share is too large.
+     */
+    private static class Task extends RecursiveTask<SimulationResult> {
+        /** The simulation this task belongs to. */
+        private final Simulation mySimulation;
+        /** The amount of games this task has to play. */
+        private final long myGames;
+        /** The generator owned by this task. */
+        private final SplittableGenerator myRandom;
+        /** The sampler that draws the games (null if the dice are rolled). */
+        private final GameSampler mySampler;
+
+        /**
+         * Constructs a Task.
+         *
+         * @param simulation The simulation this task belongs to.
+         * @param games The amount of games this task has to play.
+         * @param random The generator owned by this task.
+         * @param sampler The sampler that draws the games (null if the dice 
+         * are rolled).
+         */
+        Task(Simulation simulation, long games, SplittableGenerator random, GameSampler sampler) {
+            this.mySimulation = simulation;
+            this.myGames = games;
+            this.myRandom = random;
+            this.mySampler = sampler;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (this.myGames > this.mySimulation.myGamesPerTask) {
+                long half = this.myGames / 2;
+                Task left = new Task(this.mySimulation, half, this.myRandom.split(), this.mySampler);
+                Task right = new Task(this.mySimulation, this.myGames - half, this.myRandom, this.mySampler);
+
+                left.fork();
+                SimulationResult result = right.compute();
+
+                return result.merge(left.join());
+            }
+
+            return this.play();
+        }
+
+        /**
+         * Plays this task's games on a single player.
+         *
+         * @return The result of the games.
+         */
+        private SimulationResult play() {
+            SimulationResult result = new SimulationResult();
+            SimulatedCrapsPlayer player = new SimulatedCrapsPlayer();
+            int startingBank = this.mySimulation.myStartingBank;
+            int bet = this.mySimulation.myBet;
+
+            player.setRandomGenerator(new DieFaceGenerator(this.myRandom));
+            player.reinitialize(startingBank);
+            for (long game = 0; game < this.myGames; game++) {
+                if (player.getBank() < bet) {
+                    result.recordBust();
+                    player.reinitialize(startingBank);
+                }
+
+                int wins = player.getMyWins();
+                player.setBet(bet);
+
+                int rolls;
+                if (this.mySampler != null) {
+                    rolls = player.playSampledGame(this.mySampler).rolls();
+                } else {
+                    player.resetRolls();
+                    player.startGame();
+                    while (player.isPlaying()) {
+                        player.continueGame();
+                    }
+                    rolls = player.getRolls();
+                }
+
+                result.recordGame(player.getMyWins() > wins, rolls, bet);
+                result.recordBank(player.getBank());
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package model.sim;
+
+import java.util.Arrays;
+
+/**
+ * SimulationResult represents the aggregated statistics of many simulated
+ * craps games.
+ */
+public class SimulationResult {
+    /**
+     * The amount of game lengths tracked individually. Games that take longer
+     * are counted in the last bucket of the histogram.
+     */
+    public static final int MAX_TRACKED_LENGTH = 64;
+
+    /** How many games were played. */
+    private long myGames;
+    /** How many games were won. */
+    private long myWins;
+    /** How many games were lost. */
+    private long myLosses;
+    /** How many times the dice were rolled across all games. */
+    private long myRolls;
+    /** The most rolls a single game took. */
+    private int myLongestGame;
+    /** How many games took each amount of rolls (index 0 is unused). */
+    private final long[] myLengthHistogram;
+
+    /** How much money was won minus how much money was lost. */
+    private long myNetWinnings;
+    /** How many times a bankroll could no longer cover the bet. */
+    private long myBusts;
+    /** The highest bank seen. */
+    private int myPeakBank;
+    /** The lowest bank seen. */
+    private int myLowestBank;
+
+    /**
+     * Constructs an empty result.
+     */
+    public SimulationResult() {
+        this.myGames = 0;
+        this.myWins = 0;
+        this.myLosses = 0;
+        this.myRolls = 0;
+        this.myLongestGame = 0;
+        this.myLengthHistogram = new long[SimulationResult.MAX_TRACKED_LENGTH + 1];
+
+        this.myNetWinnings = 0;
+        this.myBusts = 0;
+        this.myPeakBank = 0;
+        this.myLowestBank = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param won True if the game was won.
+     * @param rolls How many times the dice were rolled in the game.
+     * @param bet The amount that was bet on the game.
+     */
+    void recordGame(boolean won, int rolls, int bet) {
+        this.myGames += 1;
+        if (won) {
+            this.myWins += 1;
+            this.myNetWinnings += bet;
+        } else {
+            this.myLosses += 1;
+            this.myNetWinnings -= bet;
+        }
+
+        this.myRolls += rolls;
+        this.myLongestGame = Math.max(this.myLongestGame, rolls);
+        this.myLengthHistogram[Math.min(rolls, SimulationResult.MAX_TRACKED_LENGTH)] += 1;
+    }
+
+    /**
+     * Records the bank of a player.
+     *
+     * @param bank The bank to record.
+     */
+    void recordBank(int bank) {
+        this.myPeakBank = Math.max(this.myPeakBank, bank);
+        this.myLowestBank = Math.min(this.myLowestBank, bank);
+    }
+
+    /**
+     * Records that a bankroll could no longer cover the bet.
+     */
+    void recordBust() {
+        this.myBusts += 1;
+    }
+
+    /**
+     * Adds the statistics of another result into this result.
+     *
+     * @param other The result to add.
+     * @return This SimulationResult.
+     */
+    SimulationResult merge(SimulationResult other) {
+        this.myGames += other.myGames;
+        this.myWins += other.myWins;
+        this.myLosses += other.myLosses;
+        this.myRolls += other.myRolls;
+        this.myLongestGame = Math.max(this.myLongestGame, other.myLongestGame);
+        for (int length = 0; length < this.myLengthHistogram.length; length++) {
+            this.myLengthHistogram[length] += other.myLengthHistogram[length];
+        }
+
+        this.myNetWinnings += other.myNetWinnings;
+        this.myBusts += other.myBusts;
+        this.myPeakBank = Math.max(this.myPeakBank, other.myPeakBank);
+        this.myLowestBank = Math.min(this.myLowestBank, other.myLowestBank);
+
+        return this;
+    }
+
+    /**
+     * Gets the amount of games played.
+     *
+     * @return The amount of games.
+     */
+    public long getGames() {
+        return this.myGames;
+    }
+
+    /**
+     * Gets the amount of games won.
+     *
+     * @return The amount of wins.
+     */
+    public long getWins() {
+        return this.myWins;
+    }
+
+    /**
+     * Gets the amount of games lost.
+     *
+     * @return The amount of losses.
+     */
+    public long getLosses() {
+        return this.myLosses;
+    }
+
+    /**
+     * Gets the fraction of games that were won.
+     *
+     * @return The win rate (0 if no games were played).
+     */
+    public double getWinRate() {
+        return this.myGames == 0 ? 0 : (double) this.myWins / this.myGames;
+    }
+
+    /**
+     * Gets the amount of times the dice were rolled.
+     *
+     * @return The amount of rolls.
+     */
+    public long getRolls() {
+        return this.myRolls;
+    }
+
+    /**
+     * Gets the average amount of rolls per game.
+     *
+     * @return The average game length (0 if no games were played).
+     */
+    public double getAverageGameLength() {
+        return this.myGames == 0 ? 0 : (double) this.myRolls / this.myGames;
+    }
+
+    /**
+     * Gets the most rolls a single game took.
+     *
+     * @return The longest game length.
+     */
+    public int getLongestGame() {
+        return this.myLongestGame;
+    }
+
+    /**
+     * Gets how many games took the given amount of rolls. Every game that took
+     * MAX_TRACKED_LENGTH rolls or more is counted under MAX_TRACKED_LENGTH.
+     *
+     * @param rolls The game length.
+     * @return The amount of games with that length.
+     */
+    public long getGamesWithLength(int rolls) {
+        if (rolls < 1) {
+            throw new IllegalArgumentException("Game length must be positive");
+        }
+
+        return this.myLengthHistogram[Math.min(rolls, SimulationResult.MAX_TRACKED_LENGTH)];
+    }
+
+    /**
+     * Gets a copy of the game length histogram where index i holds the amount
+     * of games that took i rolls.
+     *
+     * @return The game length histogram.
+     */
+    public long[] getLengthHistogram() {
+        return Arrays.copyOf(this.myLengthHistogram, this.myLengthHistogram.length);
+    }
+
+    /**
+     * Gets how much money was won minus how much money was lost.
+     *
+     * @return The net winnings.
+     */
+    public long getNetWinnings() {
+        return this.myNetWinnings;
+    }
+
+    /**
+     * Gets the average amount won (or lost if negative) per game.
+     *
+     * @return The average net winnings per game (0 if no games were played).
+     */
+    public double getAverageNetWinnings() {
+        return this.myGames == 0 ? 0 : (double) this.myNetWinnings / this.myGames;
+    }
+
+    /**
+     * Gets how many times a bankroll could no longer cover the bet and had to
+     * be restarted.
+     *
+     * @return The amount of busts.
+     */
+    public long getBusts() {
+        return this.myBusts;
+    }
+
+    /**
+     * Gets the highest bank seen.
+     *
+     * @return The peak bank.
+     */
+    public int getPeakBank() {
+        return this.myPeakBank;
+    }
+
+    /**
+     * Gets the lowest bank seen.
+     *
+     * @return The lowest bank (0 if no bank was recorded).
+     */
+    public int getLowestBank() {
+        return this.myLowestBank == Integer.MAX_VALUE ? 0 : this.myLowestBank;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d games: %d wins, %d losses (%.4f win rate), %.3f rolls/game, longest %d, net %d, %d busts",
+            this.myGames, this.myWins, this.myLosses, this.getWinRate(),
+            this.getAverageGameLength(), this.myLongestGame, this.myNetWinnings, this.myBusts
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package tests;
+
+import model.CrapsPlayer;
+import model.Dice;
+import model.ObservedCrapsPlayer;
+import model.bus.EventConsumer;
+import model.bus.EventHandler;
+import model.bus.PlayerEvent;
+import model.bus.PlayerEventBus;
+import model.bus.WaitStrategy;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+public class AllocationTest {
+    private static final int WARMUP_GAMES = 200_000;
+    private static final int MEASURED_GAMES = 100_000;
+    /** Slack for allocations made by the measurement itself. */
+    private static final long ALLOWED_BYTES = 1_024;
+
+    /**
+     * Plays the given amount of games on the player.
+     */
+    private static void playGames(CrapsPlayer player, int games) {
+        for (int i = 0; i < games; i++) {
+            if (player.getBank() <= 0) {
+                player.reinitialize(1_000);
+            }
+
+            player.setBet(1);
+            player.startGame();
+            while (player.isPlaying()) {
+                player.continueGame();
+            }
+        }
+    }
+
+    /**
+     * Checks that rolling the same numbers always gives back the same Dice.
+     */
+    @Test
+    public void testDiceAreShared() {
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                assertSame(Dice.of(die1, die2), Dice.of(die1, die2));
+            }
+        }
+    }
+
+    /**
+     * Measures how many bytes the current thread allocates while playing
+     * games on the given player once it is warmed up.
+     */
+    private static long measureGames(CrapsPlayer player) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        AllocationTest.playGames(player, AllocationTest.WARMUP_GAMES);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        AllocationTest.playGames(player, AllocationTest.MEASURED_GAMES);
+
+        return threadBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Checks that full games make no heap allocations once warmed up.
+     */
+    @Test
+    public void testGamesDoNotAllocate() {
+        long allocated = AllocationTest.measureGames(new CrapsPlayer());
+
+        assertTrue("Games allocated " + allocated + " bytes", allocated <= AllocationTest.ALLOWED_BYTES);
+    }
+
+    /**
+     * Checks that an ObservedCrapsPlayer nobody listens to creates no
+     * subjects and makes no heap allocations either.
+     */
+    @Test
+    public void testUnobservedPlayerDoesNotAllocate() {
+        long allocated = AllocationTest.measureGames(new ObservedCrapsPlayer());
+
+        assertTrue("Games allocated " + allocated + " bytes", allocated <= AllocationTest.ALLOWED_BYTES);
+    }
+
+    /**
+     * Checks that publishing a player's changes to an event bus and
+     * consuming them makes no heap allocations.
+     */
+    @Test
+    public void testEventBusDoesNotAllocate() {
+        PlayerEventBus bus = new PlayerEventBus(1_024);
+        EventConsumer consumer = bus.addConsumer(WaitStrategy.busySpin());
+        long[] banks = { 0 };
+        EventHandler handler = (PlayerEvent event, long sequence, boolean endOfBatch) -> banks[0] += event.getBank();
+
+        ObservedCrapsPlayer player = new ObservedCrapsPlayer() {
+            @Override
+            public void startGame() {
+                super.startGame();
+                consumer.poll(handler);
+            }
+
+            @Override
+            public void continueGame() {
+                super.continueGame();
+                consumer.poll(handler);
+            }
+        };
+        player.setEventBus(bus, 1);
+
+        long allocated = AllocationTest.measureGames(player);
+
+        assertTrue(bus.getCursor() > AllocationTest.MEASURED_GAMES);
+        assertTrue("Games allocated " + allocated + " bytes", allocated <= AllocationTest.ALLOWED_BYTES);
+    }
+}
@@ -0,0 +1,107 @@
+package tests;
+
+import view.AnimationClock;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.EventQueue;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class AnimationTest {
+    /** The length of a frame at 10 frames per second. */
+    private static final long FRAME = 100_000_000L;
+    /** The frame budget of every clock. */
+    private static final Duration BUDGET = Duration.ofMillis(20);
+
+    /**
+     * Checks that animations are told the time of the tick, that a late tick
+     * is dropped and that an animation stops once it asks to.
+     *
+     * @throws Exception If the EDT fails.
+     */
+    @Test
+    public void testLateTickIsDropped() throws Exception {
+        EventQueue.invokeAndWait(() -> {
+            AnimationClock clock = new AnimationClock(10, AnimationTest.BUDGET);
+            List<Long> frames = new ArrayList<>();
+            long start = System.nanoTime();
+            clock.start((long now) -> {
+                frames.add(now);
+                return frames.size() < 3;
+            });
+
+            // ticks are timed from the start, so the first ones are early or on time
+            clock.tick(start + AnimationTest.FRAME);
+            clock.tick(start + 2 * AnimationTest.FRAME);
+            clock.tick(start + 4 * AnimationTest.FRAME);
+            clock.tick(start + 5 * AnimationTest.FRAME);
+
+            assertEquals(List.of(
+                start + AnimationTest.FRAME, start + 2 * AnimationTest.FRAME, start + 5 * AnimationTest.FRAME
+            ), frames);
+            assertEquals(3, clock.getFrameCount());
+            assertEquals(1, clock.getDroppedFrameCount());
+        });
+    }
+
+    /**
+     * Checks that a clock whose every tick is late still runs a frame after
+     * dropping a few in a row.
+     *
+     * @throws Exception If the EDT fails.
+     */
+    @Test
+    public void testLateTicksAreCapped() throws Exception {
+        EventQueue.invokeAndWait(() -> {
+            AnimationClock clock = new AnimationClock(10, AnimationTest.BUDGET);
+            List<Long> frames = new ArrayList<>();
+            clock.start((long now) -> frames.add(now));
+
+            long now = System.nanoTime();
+            for (int i = 0; i < 20; i++) {
+                now += 2 * AnimationTest.FRAME;
+                clock.tick(now);
+            }
+
+            assertEquals(4, clock.getFrameCount());
+            assertEquals(16, clock.getDroppedFrameCount());
+            assertEquals(20, frames.size() + clock.getDroppedFrameCount());
+        });
+    }
+
+    /**
+     * Checks that the frames after one that took longer than the budget are
+     * dropped, and that frames run again afterwards.
+     *
+     * @throws Exception If the EDT fails.
+     */
+    @Test
+    public void testSlowFrameSkipsFrames() throws Exception {
+        EventQueue.invokeAndWait(() -> {
+            AnimationClock clock = new AnimationClock(10, AnimationTest.BUDGET);
+            List<Long> frames = new ArrayList<>();
+            long start = System.nanoTime();
+            clock.start((long now) -> {
+                if (frames.isEmpty()) {
+                    // twice the budget, so the next two frames are dropped
+                    long end = System.nanoTime() + 2 * AnimationTest.BUDGET.toNanos();
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return frames.add(now);
+            });
+
+            for (int i = 1; i <= 4; i++) {
+                clock.tick(start + i * AnimationTest.FRAME);
+            }
+
+            assertEquals(List.of(start + AnimationTest.FRAME, start + 4 * AnimationTest.FRAME), frames);
+            assertEquals(2, clock.getDroppedFrameCount());
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package tests;
+
+import controller.audio.AudioEngine;
+import controller.audio.Sound;
+import controller.audio.VoiceMixer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class AudioTest {
+    /** The stereo frames mixed per block. */
+    private static final int FRAMES = 4;
+
+    /**
+     * Makes a stereo sound of the given amount of frames where every sample
+     * has the same value.
+     *
+     * @param name The name of the sound.
+     * @param frames The amount of frames.
+     * @param value The value of every sample.
+     * @return The sound.
+     */
+    private static Sound constant(String name, int frames, int value) {
+        short[] samples = new short[2 * frames];
+        Arrays.fill(samples, (short) value);
+
+        return new Sound(name, samples, 2, 48_000f);
+    }
+
+    /**
+     * Checks that sounds played at the same time overlap instead of cutting
+     * each other off, and that voices are freed once their sound ends.
+     */
+    @Test
+    public void testVoicesOverlap() {
+        VoiceMixer mixer = new VoiceMixer(4, 2);
+        Sound sound = AudioTest.constant("sound", AudioTest.FRAMES + 1, 1000);
+        short[] out = new short[2 * AudioTest.FRAMES];
+
+        mixer.play(sound, 1);
+        mixer.play(sound, 0.5f);
+        assertEquals(2, mixer.mix(out, AudioTest.FRAMES, System.nanoTime()));
+        for (short sample : out) {
+            assertEquals(1500, sample);
+        }
+
+        assertEquals(0, mixer.mix(out, AudioTest.FRAMES, System.nanoTime()));
+        assertEquals(1500, out[0]);
+        assertEquals(1500, out[1]);
+        assertEquals(0, out[2]);
+        assertEquals(2, mixer.getPlayedCount());
+    }
+
+    /**
+     * Checks that a loud mix is clipped instead of wrapping around.
+     */
+    @Test
+    public void testMixIsClipped() {
+        VoiceMixer mixer = new VoiceMixer(4, 2);
+        Sound loud = AudioTest.constant("loud", AudioTest.FRAMES, 30_000);
+        Sound quiet = AudioTest.constant("quiet", AudioTest.FRAMES, -30_000);
+        short[] out = new short[2 * AudioTest.FRAMES];
+
+        mixer.play(loud, 1);
+        mixer.play(loud, 1);
+        mixer.mix(out, AudioTest.FRAMES, System.nanoTime());
+        assertEquals(Short.MAX_VALUE, out[0]);
+
+        mixer.play(quiet, 1);
+        mixer.play(quiet, 1);
+        mixer.mix(out, AudioTest.FRAMES, System.nanoTime());
+        assertEquals(Short.MIN_VALUE, out[0]);
+    }
+
+    /**
+     * Checks that the voice that started first is taken over once every voice
+     * is busy, and that stopping a sound silences all of its voices.
+     */
+    @Test
+    public void testOldestVoiceIsStolen() {
+        VoiceMixer mixer = new VoiceMixer(2, 2);
+        Sound first = AudioTest.constant("first", 100, 1);
+        Sound second = AudioTest.constant("second", 100, 10);
+        Sound third = AudioTest.constant("third", 100, 100);
+        short[] out = new short[2 * AudioTest.FRAMES];
+
+        mixer.play(first, 1);
+        mixer.play(second, 1);
+        mixer.play(third, 1);
+        assertEquals(2, mixer.mix(out, AudioTest.FRAMES, System.nanoTime()));
+        assertEquals(110, out[0]);
+        assertEquals(1, mixer.getStolenCount());
+
+        mixer.stop(third);
+        assertEquals(1, mixer.mix(out, AudioTest.FRAMES, System.nanoTime()));
+        assertEquals(10, out[0]);
+    }
+
+    /**
+     * Checks that the latency is measured up to when the first frame of a
+     * sound is heard.
+     */
+    @Test
+    public void testLatencyIsMeasured() {
+        VoiceMixer mixer = new VoiceMixer(2, 2);
+        short[] out = new short[2 * AudioTest.FRAMES];
+
+        mixer.play(AudioTest.constant("sound", 100, 1), 1);
+        mixer.mix(out, AudioTest.FRAMES, System.nanoTime() + Duration.ofMillis(10).toNanos());
+
+        assertTrue(mixer.getMeanLatency().compareTo(Duration.ofMillis(10)) >= 0);
+        assertTrue(mixer.getMaxLatency().compareTo(Duration.ofMillis(10)) >= 0);
+    }
+
+    /**
+     * Checks that the 16 and 24 bit assets at 44.1 kHz decode into the same
+     * amount of frames of the engine's format.
+     *
+     * @throws Exception If an asset cannot be decoded.
+     */
+    @Test
+    public void testAssetsAreConverted() throws Exception {
+        try (InputStream roll = new FileInputStream("assets/sound/roll.wav");
+             InputStream roll24 = new FileInputStream("assets/sound/roll24.wav")) {
+            Sound sound = Sound.decode("roll", roll, AudioEngine.FORMAT);
+            Sound sound24 = Sound.decode("roll24", roll24, AudioEngine.FORMAT);
+
+            assertEquals(AudioEngine.FORMAT.getSampleRate(), sound.getSampleRate(), 0);
+            assertEquals(2, sound.getChannels());
+            assertEquals(sound.getFrameCount(), sound24.getFrameCount());
+            assertEquals(1.1, sound.getDuration().toMillis() / 1000.0, 0.05);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package tests;
+
+import controller.AutoPlayWorker;
+import model.BetPolicy;
+import model.ObservedCrapsPlayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.EventQueue;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class AutoPlayTest {
+    /**
+     * Checks that a run plays every game on a copy, shows it only a few times
+     * on the EDT, and hands the result to the window's player when it ends.
+     *
+     * @throws Exception If the run does not end in time.
+     */
+    @Test
+    public void testRunIsThrottledAndTakenOver() throws Exception {
+        ObservedCrapsPlayer player = new ObservedCrapsPlayer();
+        player.reinitialize(1_000_000);
+        AutoPlayWorker worker = new AutoPlayWorker(player, Duration.ofMillis(50));
+
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger notOnEdt = new AtomicInteger();
+        List<AutoPlayWorker.Progress> shown = new ArrayList<>();
+        worker.getProgressSubject().addObserver((AutoPlayWorker.Progress progress) -> {
+            if (!EventQueue.isDispatchThread()) {
+                notOnEdt.incrementAndGet();
+            }
+            shown.add(progress);
+        });
+        worker.getRunningSubject().addObserver((Boolean running) -> {
+            if (!running) {
+                finished.countDown();
+            }
+        });
+
+        EventQueue.invokeAndWait(() -> worker.start(5000, BetPolicy.flat(10)));
+        assertTrue(finished.await(30, TimeUnit.SECONDS));
+
+        EventQueue.invokeAndWait(() -> {
+            assertFalse(worker.isRunning());
+            assertEquals(5000, player.getMyWins() + player.getMyLosses());
+            assertEquals(1_000_000 + 10 * (player.getMyWins() - player.getMyLosses()), player.getBank());
+            assertFalse(player.isPlaying());
+
+            AutoPlayWorker.Progress last = shown.get(shown.size() - 1);
+            assertEquals(5000, last.played());
+            assertEquals(player.getBank(), last.latest().bank());
+        });
+        assertEquals(0, notOnEdt.get());
+        // every game changes the copy several times, but only frames are shown
+        assertTrue(shown.size() < 1000);
+    }
+
+    /**
+     * Checks that a cancelled run stops early and keeps the games it played.
+     *
+     * @throws Exception If the run does not end in time.
+     */
+    @Test
+    public void testCancel() throws Exception {
+        ObservedCrapsPlayer player = new ObservedCrapsPlayer();
+        player.reinitialize(1_000_000);
+        AutoPlayWorker worker = new AutoPlayWorker(player, Duration.ofMillis(10));
+
+        CountDownLatch finished = new CountDownLatch(1);
+        worker.getRunningSubject().addObserver((Boolean running) -> {
+            if (!running) {
+                finished.countDown();
+            }
+        });
+
+        EventQueue.invokeAndWait(() -> {
+            worker.start(Integer.MAX_VALUE, BetPolicy.flat(1));
+            worker.cancel();
+        });
+        assertTrue(finished.await(30, TimeUnit.SECONDS));
+
+        EventQueue.invokeAndWait(() -> {
+            assertTrue(player.getMyWins() + player.getMyLosses() < Integer.MAX_VALUE);
+            assertEquals(1_000_000 + player.getMyWins() - player.getMyLosses(), player.getBank());
+        });
+    }
+}
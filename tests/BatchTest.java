@@ -0,0 +1,131 @@
+package tests;
+
+import model.CrapsPlayer;
+import model.CrapsPlayerBatch;
+import model.RollKernel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import java.util.SplittableRandom;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+public class BatchTest {
+    private static final int PLAYERS = 64;
+    private static final int ROUNDS = 2_000;
+    private static final int STARTING_BANK = 50;
+    private static final long SEED = 1234;
+
+    /**
+     * Plays the same rolls on a batch and on separate CrapsPlayers and checks
+     * that every player ends up in the exact same state.
+     */
+    @Test
+    public void testMatchesCrapsPlayer() {
+        SplittableRandom playerRandom = new SplittableRandom(BatchTest.SEED);
+        CrapsPlayer[] players = new CrapsPlayer[BatchTest.PLAYERS];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new CrapsPlayer();
+            players[i].setRandomGenerator(playerRandom);
+            players[i].reinitialize(BatchTest.STARTING_BANK);
+        }
+
+        CrapsPlayerBatch batch = new CrapsPlayerBatch(BatchTest.PLAYERS);
+        batch.setRandomGenerator(new SplittableRandom(BatchTest.SEED));
+        batch.setBankAll(BatchTest.STARTING_BANK);
+
+        for (int round = 0; round < BatchTest.ROUNDS; round++) {
+            int bet = 1 + round % 7;
+
+            for (int i = 0; i < players.length; i++) {
+                if (players[i].isPlaying()) {
+                    players[i].continueGame();
+                } else if (players[i].getBank() > 0) {
+                    players[i].setBet(bet);
+                    players[i].startGame();
+                }
+            }
+
+            batch.setBetAll(bet);
+            batch.startGames();
+            batch.roll();
+
+            for (int i = 0; i < players.length; i++) {
+                assertEquals(players[i].getBank(), batch.getBank(i));
+                assertEquals(players[i].getBet(), batch.getBet(i));
+                assertEquals(players[i].isPlaying(), batch.isPlaying(i));
+                assertEquals(players[i].getMyWins(), batch.getMyWins(i));
+                assertEquals(players[i].getMyLosses(), batch.getMyLosses(i));
+                assertEquals(players[i].getMyLastBet(), batch.getMyLastBet(i));
+                if (players[i].isPlaying()) {
+                    assertEquals(players[i].getPoint(), batch.getPoint(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the vector kernel leaves a batch in the same state as the
+     * scalar kernel.
+     */
+    @Test
+    public void testKernelsAgree() {
+        RollKernel vector;
+        try {
+            vector = RollKernel.vector();
+        } catch (UnsupportedOperationException e) {
+            Assume.assumeNoException(e);
+            return;
+        }
+
+        int size = BatchTest.PLAYERS + 3; // not a multiple of any vector length
+        CrapsPlayerBatch scalarBatch = new CrapsPlayerBatch(size, RollKernel.scalar());
+        CrapsPlayerBatch vectorBatch = new CrapsPlayerBatch(size, vector);
+        scalarBatch.setRandomGenerator(new SplittableRandom(BatchTest.SEED));
+        vectorBatch.setRandomGenerator(new SplittableRandom(BatchTest.SEED));
+        scalarBatch.setBankAll(BatchTest.STARTING_BANK);
+        vectorBatch.setBankAll(BatchTest.STARTING_BANK);
+
+        for (int round = 0; round < BatchTest.ROUNDS; round++) {
+            scalarBatch.setBetAll(1 + round % 5);
+            vectorBatch.setBetAll(1 + round % 5);
+            scalarBatch.startGames();
+            vectorBatch.startGames();
+            assertEquals(scalarBatch.roll(), vectorBatch.roll());
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(scalarBatch.getBank(i), vectorBatch.getBank(i));
+                assertEquals(scalarBatch.getBet(i), vectorBatch.getBet(i));
+                assertEquals(scalarBatch.getPoint(i), vectorBatch.getPoint(i));
+                assertEquals(scalarBatch.getMyWins(i), vectorBatch.getMyWins(i));
+                assertEquals(scalarBatch.getMyLosses(i), vectorBatch.getMyLosses(i));
+                assertEquals(scalarBatch.getMyLastBet(i), vectorBatch.getMyLastBet(i));
+            }
+        }
+    }
+
+    /**
+     * Checks that single players in a batch are validated like CrapsPlayer.
+     */
+    @Test
+    public void testSinglePlayer() {
+        CrapsPlayerBatch batch = new CrapsPlayerBatch(2);
+        batch.setBank(0, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> batch.startGame(0));
+        assertThrows(IllegalStateException.class, () -> batch.continueGame(0));
+
+        batch.setBet(0, 20);
+        assertEquals(10, batch.getBet(0));
+
+        batch.startGame(0);
+        while (batch.isPlaying(0)) {
+            batch.continueGame(0);
+        }
+        assertEquals(1, batch.getMyWins(0) + batch.getMyLosses(0));
+        assertFalse(batch.isPlaying(1));
+    }
+}
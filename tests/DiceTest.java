@@ -0,0 +1,80 @@
+package tests;
+
+import model.Dice;
+import model.DieFaceGenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class DiceTest {
+    private static final int ROLLS = 600_000;
+
+    /**
+     * Checks that every face comes up about as often as every other face.
+     */
+    @Test
+    public void testFacesAreUniform() {
+        DieFaceGenerator faces = new DieFaceGenerator(new SplittableRandom(99));
+        int[] counts = new int[7];
+        for (int i = 0; i < DiceTest.ROLLS; i++) {
+            counts[faces.nextFace()]++;
+        }
+
+        double expected = DiceTest.ROLLS / 6.0;
+        double chiSquared = 0;
+        for (int face = 1; face <= 6; face++) {
+            chiSquared += Math.pow(counts[face] - expected, 2) / expected;
+        }
+
+        assertEquals(0, counts[0]);
+        assertTrue("chi squared was " + chiSquared, chiSquared < 20.5); // p = 0.001 with 5 degrees of freedom
+    }
+
+    /**
+     * Checks that newRoll, which reads both dice from the same buffered draw,
+     * still makes every pair of dice about as likely as every other pair.
+     */
+    @Test
+    public void testNewRollPairsAreUniform() {
+        int[] counts = new int[36];
+        for (int i = 0; i < DiceTest.ROLLS; i++) {
+            Dice dice = Dice.newRoll();
+            counts[(dice.myDie1 - 1) * 6 + (dice.myDie2 - 1)]++;
+        }
+
+        double expected = DiceTest.ROLLS / 36.0;
+        double chiSquared = 0;
+        for (int count : counts) {
+            chiSquared += Math.pow(count - expected, 2) / expected;
+        }
+
+        assertTrue("chi squared was " + chiSquared, chiSquared < 66.6); // p = 0.001 with 35 degrees of freedom
+    }
+
+    /**
+     * Checks that rollMany only produces sums two dice can have and follows
+     * their triangular distribution.
+     */
+    @Test
+    public void testRollMany() {
+        int[] sums = new int[DiceTest.ROLLS];
+        Dice.rollMany(sums.length, sums);
+
+        int[] counts = new int[13];
+        for (int sum : sums) {
+            assertTrue(sum >= 2 && sum <= 12);
+            counts[sum]++;
+        }
+        for (int sum = 2; sum <= 12; sum++) {
+            double expected = (6 - Math.abs(sum - 7)) / 36.0;
+            assertEquals(expected, (double) counts[sum] / DiceTest.ROLLS, 0.005);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> Dice.rollMany(2, new int[1]));
+    }
+}
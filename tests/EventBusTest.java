@@ -0,0 +1,135 @@
+package tests;
+
+import model.ObservedCrapsPlayer;
+import model.PlayerChange;
+import model.bus.EventConsumer;
+import model.bus.PlayerEvent;
+import model.bus.PlayerEventBus;
+import model.bus.WaitStrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class EventBusTest {
+    private static final int EVENTS = 20_000;
+
+    /**
+     * Checks that only powers of two are accepted as capacity.
+     */
+    @Test
+    public void testCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerEventBus(0));
+        assertThrows(IllegalArgumentException.class, () -> new PlayerEventBus(12));
+        assertEquals(16, new PlayerEventBus(16).getCapacity());
+    }
+
+    /**
+     * Checks that consumers with every wait strategy see every event in
+     * order even though the ring wraps many times.
+     */
+    @Test
+    public void testConsumersSeeEveryEvent() throws InterruptedException {
+        PlayerEventBus bus = new PlayerEventBus(64);
+        List<WaitStrategy> strategies = List.of(
+            WaitStrategy.busySpin(), WaitStrategy.yielding(),
+            WaitStrategy.sleeping(Duration.ofNanos(1_000)), WaitStrategy.blocking()
+        );
+
+        List<Thread> threads = new ArrayList<>();
+        List<AtomicLong> failures = new ArrayList<>();
+        for (WaitStrategy strategy : strategies) {
+            EventConsumer consumer = bus.addConsumer(strategy);
+            AtomicLong failure = new AtomicLong(-1);
+            failures.add(failure);
+
+            Thread thread = new Thread(() -> {
+                long[] expected = { 0 };
+                while (expected[0] < EventBusTest.EVENTS) {
+                    consumer.take((PlayerEvent event, long sequence, boolean endOfBatch) -> {
+                        if (sequence != expected[0] || event.getBank() != (int) sequence || event.getTable() != (int) (sequence % 7)) {
+                            failure.compareAndSet(-1, sequence);
+                        }
+                        expected[0]++;
+                    });
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (int i = 0; i < EventBusTest.EVENTS; i++) {
+            bus.publish(PlayerChange.BANK, i % 7, 0, 0, i, 0, -1, -1, false);
+        }
+        for (Thread thread : threads) {
+            thread.join(30_000);
+            assertTrue(!thread.isAlive());
+        }
+        for (AtomicLong failure : failures) {
+            assertEquals(-1, failure.get());
+        }
+    }
+
+    /**
+     * Checks that a halted consumer no longer holds the producer back.
+     */
+    @Test
+    public void testHaltedConsumerIsSkipped() {
+        PlayerEventBus bus = new PlayerEventBus(4);
+        EventConsumer consumer = bus.addConsumer(WaitStrategy.busySpin());
+        consumer.halt();
+
+        for (int i = 0; i < 100; i++) {
+            bus.publish(PlayerChange.BET, 0, 0, 0, 0, i, -1, -1, false);
+        }
+
+        assertEquals(99, bus.getCursor());
+        assertEquals(0, consumer.take((PlayerEvent event, long sequence, boolean endOfBatch) -> { }));
+    }
+
+    /**
+     * Checks that an ObservedCrapsPlayer publishes exactly its change sets to
+     * the bus.
+     */
+    @Test
+    public void testPlayerPublishesChanges() {
+        PlayerEventBus bus = new PlayerEventBus(1_024);
+        EventConsumer consumer = bus.addConsumer(WaitStrategy.yielding());
+        ObservedCrapsPlayer player = new ObservedCrapsPlayer();
+        player.setEventBus(bus, 3);
+
+        List<PlayerChange> changes = new ArrayList<>();
+        player.getChangeSubject().addObserver(changes::add);
+
+        player.reinitialize(10);
+        player.setBet(1);
+        player.startGame();
+        while (player.isPlaying()) {
+            player.continueGame();
+        }
+
+        int published = consumer.poll((PlayerEvent event, long sequence, boolean endOfBatch) -> {
+            PlayerChange change = changes.get((int) sequence);
+            assertEquals(3, event.getTable());
+            assertEquals(change.fields(), event.getType());
+            assertEquals(change.bank(), event.getBank());
+            assertEquals(change.bet(), event.getBet());
+            assertEquals(change.point(), event.getPoint());
+            assertEquals(change.playing(), event.isPlaying());
+            assertEquals(change.result(), event.getResult());
+            assertEquals((change.dice() == null) ? 0 : change.dice().myDie1, event.getDie1());
+            assertEquals((change.dice() == null) ? 0 : change.dice().myDie2, event.getDie2());
+        });
+
+        assertEquals(changes.size(), published);
+        assertTrue(changes.get(changes.size() - 1).has(PlayerChange.RESULT));
+    }
+}
@@ -0,0 +1,191 @@
+package tests;
+
+import controller.cli.HeadlessOptions;
+import controller.cli.HeadlessRunner;
+import controller.cli.OutputFormat;
+import model.BetPolicy;
+import model.CrapsPlayer;
+import model.WinState;
+import model.sim.AutoPlayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+public class HeadlessTest {
+    /**
+     * Runs sessions and gets the lines written.
+     *
+     * @param format How the records are written.
+     * @param seed The seed of the dice.
+     * @return The lines.
+     */
+    private static List<String> runSessions(OutputFormat format, long seed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, false, StandardCharsets.UTF_8);
+
+        new HeadlessRunner(out, format, false, BetPolicy.flat(10), seed).runSessions(2, 100, 5);
+
+        return bytes.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    /**
+     * Checks that the bet policies bet what they describe.
+     */
+    @Test
+    public void testBetPolicies() {
+        assertEquals(10, BetPolicy.parse("flat:10").nextBet(100, 0, null));
+
+        BetPolicy martingale = BetPolicy.parse("martingale:5");
+        assertEquals(5, martingale.nextBet(100, 0, null));
+        assertEquals(20, martingale.nextBet(100, 10, WinState.LOSS));
+        assertEquals(5, martingale.nextBet(100, 20, WinState.WON));
+
+        assertEquals(25, BetPolicy.parse("fraction:0.25").nextBet(100, 0, null));
+        assertEquals(1, BetPolicy.parse("fraction:0.25").nextBet(1, 0, null));
+    }
+
+    /**
+     * Checks that an auto player plays until the bank is empty and never bets
+     * more than the bank.
+     */
+    @Test
+    public void testAutoPlayerStopsWhenBusted() {
+        CrapsPlayer player = new CrapsPlayer();
+        player.reinitialize(50);
+        AutoPlayer autoPlayer = new AutoPlayer(player, BetPolicy.martingale(10));
+
+        int games = 0;
+        WinState result;
+        while ((result = autoPlayer.playGame()) != WinState.ONGOING) {
+            games++;
+            assertTrue(autoPlayer.getLastBet() > 0);
+            assertEquals(result, autoPlayer.getLastResult());
+        }
+
+        assertEquals(0, player.getBank());
+        assertEquals(games, player.getMyWins() + player.getMyLosses());
+        assertFalse(player.isPlaying());
+    }
+
+    /**
+     * Checks that sessions write every game and a summary, the same way for
+     * the same seed.
+     */
+    @Test
+    public void testSessionsAreRepeatable() {
+        List<String> lines = HeadlessTest.runSessions(OutputFormat.CSV, 42);
+
+        assertEquals(HeadlessTest.runSessions(OutputFormat.CSV, 42), lines);
+        assertEquals("record,session,game,result,bet,rolls,bank,wins,losses,die1,die2,point", lines.get(0));
+        assertEquals(2, lines.stream().filter((String line) -> line.startsWith("session,")).count());
+        assertEquals(10, lines.stream().filter((String line) -> line.startsWith("game,")).count());
+
+        String[] last = lines.get(lines.size() - 1).split(",", -1);
+        assertEquals(12, last.length);
+        assertEquals("2", last[1]);
+        assertEquals("5", last[2]);
+    }
+
+    /**
+     * Checks that the rolls of every game add up to the rolls of its session,
+     * including games decided on the come-out roll.
+     */
+    @Test
+    public void testGameRollsAddUpToSession() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, false, StandardCharsets.UTF_8);
+        new HeadlessRunner(out, OutputFormat.CSV, false, BetPolicy.flat(1), 7L).runSessions(2, 1_000_000, 500);
+
+        long gameRolls = 0;
+        int comeOutGames = 0;
+        int sessions = 0;
+        for (String line : bytes.toString(StandardCharsets.UTF_8).lines().toList()) {
+            String[] columns = line.split(",", -1);
+            if (columns[0].equals("game")) {
+                int rolls = Integer.parseInt(columns[5]);
+                assertTrue(rolls >= 1);
+                gameRolls += rolls;
+                if (rolls == 1) {
+                    comeOutGames++;
+                }
+            } else if (columns[0].equals("session")) {
+                assertEquals(Long.parseLong(columns[5]), gameRolls);
+                gameRolls = 0;
+                sessions++;
+            }
+        }
+
+        assertEquals(2, sessions);
+        // about a third of the games are decided on the come-out roll
+        assertTrue(comeOutGames > 200);
+    }
+
+    /**
+     * Checks that a script writes its rolls and stops at the first command
+     * that fails.
+     *
+     * @throws Exception If the script cannot be read.
+     */
+    @Test
+    public void testScript() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, false, StandardCharsets.UTF_8);
+        HeadlessRunner runner = new HeadlessRunner(out, OutputFormat.JSON, false, BetPolicy.flat(10), 1L);
+
+        String script = "bank 100\nbet 10 # first game\nstart\nplay 2\n";
+        assertTrue(runner.runScript(new BufferedReader(new StringReader(script)), 1000));
+
+        List<String> lines = bytes.toString(StandardCharsets.UTF_8).lines().toList();
+        assertTrue(lines.get(0).startsWith("{\"record\":\"roll\""));
+        // play finishes the game start left open before it starts new ones
+        long games = lines.stream().filter((String line) -> line.startsWith("{\"record\":\"game\"")).count();
+        assertTrue(games == 2 || games == 3);
+        assertTrue(lines.get(lines.size() - 1).startsWith("{\"record\":\"session\",\"session\":1,\"games\":" + games));
+
+        PrintStream err = System.err;
+        try {
+            System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+            assertFalse(runner.runScript(new BufferedReader(new StringReader("roll\n")), 1000));
+            assertFalse(runner.runScript(new BufferedReader(new StringReader("jump\n")), 1000));
+        } finally {
+            System.setErr(err);
+        }
+    }
+
+    /**
+     * Checks that flags are parsed with their value next or after an equals
+     * sign, and that invalid flags are rejected.
+     */
+    @Test
+    public void testOptions() {
+        HeadlessOptions options = HeadlessOptions.parse(new String[] {
+            "--bank", "500", "--games=20", "--format=JSON", "--seed", "7", "--summary"
+        });
+
+        assertEquals(500, options.bank());
+        assertEquals(20, options.games());
+        assertEquals(1, options.sessions());
+        assertEquals(OutputFormat.JSON, options.format());
+        assertEquals(Long.valueOf(7), options.seed());
+        assertTrue(options.summaryOnly());
+
+        for (String[] args : new String[][] {{"--bank", "-1"}, {"--bet", "double:2"}, {"--games"}, {"--what", "1"}}) {
+            try {
+                HeadlessOptions.parse(args);
+                throw new AssertionError("Accepted " + String.join(" ", args));
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+}
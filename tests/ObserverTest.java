@@ -0,0 +1,309 @@
+package tests;
+
+import libraries.observer.ConcurrentSubject;
+import libraries.observer.ConflatingSubject;
+import libraries.observer.Pipeline;
+import libraries.observer.Subject;
+import libraries.observer.Subscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+public class ObserverTest {
+    /**
+     * Checks that a fused pipeline delivers the same states as the equivalent
+     * chain of derived and converted subjects.
+     */
+    @Test
+    public void testPipelineMatchesChain() {
+        Subject<Integer> source = new Subject<>();
+        List<String> chained = new ArrayList<>();
+        List<String> fused = new ArrayList<>();
+
+        source.getDerivedSubject((Integer n) -> n % 2 == 0)
+            .getConvertedSubject((Integer n) -> n * 10)
+            .getDerivedSubject((Integer n) -> n > 20)
+            .getConvertedSubject((Integer n) -> "#" + n)
+            .addObserver(chained::add);
+        source.pipe()
+            .filter((Integer n) -> n % 2 == 0)
+            .map((Integer n) -> n * 10)
+            .filter((Integer n) -> n > 20)
+            .map((Integer n) -> "#" + n)
+            .subscribe(fused::add);
+
+        for (int n = 0; n < 10; n++) {
+            source.update(n);
+        }
+
+        assertEquals(List.of("#40", "#60", "#80"), fused);
+        assertEquals(chained, fused);
+    }
+
+    /**
+     * Checks that extending a pipeline leaves the original pipeline alone.
+     */
+    @Test
+    public void testPipelineIsImmutable() {
+        Subject<Integer> source = new Subject<>();
+        Pipeline<Integer, Integer> evens = source.pipe().filter((Integer n) -> n % 2 == 0);
+        List<Integer> all = new ArrayList<>();
+        List<Integer> bigEvens = new ArrayList<>();
+
+        evens.filter((Integer n) -> n > 4).subscribe(bigEvens::add);
+        evens.subscribe(all::add);
+        for (int n = 0; n < 8; n++) {
+            source.update(n);
+        }
+
+        assertEquals(List.of(0, 2, 4, 6), all);
+        assertEquals(List.of(6), bigEvens);
+    }
+
+    /**
+     * Checks that closing a subscription removes the observer, including
+     * subscriptions of derived subjects.
+     */
+    @Test
+    public void testUnsubscribe() {
+        for (Subject<Integer> source : List.of(new Subject<Integer>(), new ConcurrentSubject<Integer>())) {
+            List<Integer> seen = new ArrayList<>();
+            Subscription subscription = source.addObserver(seen::add);
+            Subscription doubled = source.pipe().map((Integer n) -> n * 2).subscribe(seen::add);
+
+            source.update(1);
+            subscription.close();
+            source.update(2);
+            doubled.close();
+            doubled.close();
+            source.update(3);
+
+            assertEquals(List.of(1, 2, 4), seen);
+            assertFalse(source.hasObservers());
+        }
+    }
+
+    /**
+     * Checks that an observer can remove itself while the subject is being
+     * updated, without affecting the other observers of that update.
+     */
+    @Test
+    public void testUnsubscribeDuringUpdate() {
+        ConcurrentSubject<Integer> source = new ConcurrentSubject<>();
+        List<Integer> seen = new ArrayList<>();
+        Subscription[] once = { null };
+
+        once[0] = source.addObserver((Integer n) -> once[0].close());
+        source.addObserver(seen::add);
+        source.update(1);
+        source.update(2);
+
+        assertEquals(List.of(1, 2), seen);
+    }
+
+    /**
+     * Checks that observers added from several threads while the subject is
+     * being updated are all kept.
+     */
+    @Test
+    public void testConcurrentSubscribe() throws InterruptedException {
+        final int threads = 4;
+        final int perThread = 1_000;
+        ConcurrentSubject<Integer> source = new ConcurrentSubject<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    source.addObserver((Integer n) -> calls.incrementAndGet());
+                    source.update(0);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        calls.set(0);
+        source.update(0);
+        assertEquals(threads * perThread, calls.get());
+    }
+
+    /**
+     * Checks that a weak observer stops being updated and removes itself
+     * once its callback is collected.
+     */
+    @Test
+    public void testWeakObserver() {
+        ConcurrentSubject<Integer> source = new ConcurrentSubject<>();
+        AtomicInteger calls = new AtomicInteger();
+        Consumer<Integer> callback = (Integer n) -> calls.incrementAndGet();
+
+        source.addWeakObserver(callback);
+        source.update(0);
+        assertEquals(1, calls.get());
+
+        WeakReference<Consumer<Integer>> reference = new WeakReference<>(callback);
+        callback = null;
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+        }
+        Assume.assumeTrue(reference.get() == null);
+
+        source.update(0);
+        assertFalse(source.hasObservers());
+    }
+
+    /**
+     * Checks that states published while a delivery is pending replace each
+     * other and are counted as coalesced.
+     */
+    @Test
+    public void testConflation() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Subject<Integer> source = new Subject<>();
+        ConflatingSubject<Integer> conflated = source.conflateOn(tasks::add);
+        List<Integer> seen = new ArrayList<>();
+        conflated.addObserver(seen::add);
+
+        for (int n = 1; n <= 5; n++) {
+            source.update(n);
+        }
+        assertEquals(1, tasks.size());
+        assertTrue(seen.isEmpty());
+
+        tasks.poll().run();
+        source.update(6);
+        tasks.poll().run();
+
+        assertEquals(List.of(5, 6), seen);
+        assertTrue(tasks.isEmpty());
+        assertEquals(6, conflated.getPublishedCount());
+        assertEquals(2, conflated.getDeliveredCount());
+        assertEquals(4, conflated.getCoalescedCount());
+    }
+
+    /**
+     * Checks that a slow observer on another thread never holds up the
+     * publishing thread and still ends up with the latest state.
+     */
+    @Test
+    public void testConflationDoesNotBlock() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ConflatingSubject<Integer> conflated = new ConflatingSubject<>(executor);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch last = new CountDownLatch(1);
+            conflated.addObserver((Integer n) -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (n == 10_000) {
+                    last.countDown();
+                }
+            });
+
+            for (int n = 1; n <= 10_000; n++) {
+                conflated.update(n);
+            }
+            release.countDown();
+
+            assertTrue(last.await(10, TimeUnit.SECONDS));
+            assertTrue(conflated.getDeliveredCount() < conflated.getPublishedCount());
+            assertEquals(conflated.getPublishedCount(), conflated.getDeliveredCount() + conflated.getCoalescedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks that distinctUntilChanged only passes on states that differ
+     * from the previous one, both by equality and by primitive key.
+     */
+    @Test
+    public void testDistinctUntilChanged() {
+        Subject<Integer> source = new Subject<>();
+        List<Integer> byValue = new ArrayList<>();
+        List<Integer> byKey = new ArrayList<>();
+        source.distinctUntilChanged().addObserver(byValue::add);
+        source.distinctUntilChanged((Integer n) -> n / 10).addObserver(byKey::add);
+
+        for (int n : new int[] { 1000, 1000, 1001, 1001, 1000, 1009, 1010 }) {
+            source.update(n);
+        }
+
+        assertEquals(List.of(1000, 1001, 1000, 1009, 1010), byValue);
+        assertEquals(List.of(1000, 1010), byKey);
+    }
+
+    /**
+     * Checks that throttle passes on the first state of a burst only.
+     */
+    @Test
+    public void testThrottle() {
+        Subject<Integer> source = new Subject<>();
+        List<Integer> hourly = new ArrayList<>();
+        List<Integer> unlimited = new ArrayList<>();
+        source.throttle(Duration.ofHours(1)).addObserver(hourly::add);
+        source.throttle(Duration.ZERO).addObserver(unlimited::add);
+
+        for (int n = 1; n <= 5; n++) {
+            source.update(n);
+        }
+
+        assertEquals(List.of(1), hourly);
+        assertEquals(List.of(1, 2, 3, 4, 5), unlimited);
+    }
+
+    /**
+     * Checks that sample passes on the latest state of a burst once the
+     * interval has passed.
+     */
+    @Test
+    public void testSample() throws InterruptedException {
+        Subject<Integer> source = new Subject<>();
+        List<Integer> seen = new CopyOnWriteArrayList<>();
+        CountDownLatch sampled = new CountDownLatch(1);
+        source.sample(Duration.ofMillis(200)).addObserver((Integer n) -> {
+            seen.add(n);
+            sampled.countDown();
+        });
+
+        for (int n = 1; n <= 100; n++) {
+            source.update(n);
+        }
+
+        assertTrue(sampled.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(100), seen);
+    }
+}
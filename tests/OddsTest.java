@@ -0,0 +1,57 @@
+package tests;
+
+import model.analysis.CrapsOdds;
+import model.rules.CompiledRules;
+import model.rules.RuleSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class OddsTest {
+    private static final double EPSILON = 1e-12;
+
+    /**
+     * Checks the standard odds against their well known values.
+     */
+    @Test
+    public void testStandard() {
+        CrapsOdds odds = CrapsOdds.standard();
+
+        assertEquals(new CrapsOdds.Fraction(244, 495), odds.getExactWinProbability());
+        assertEquals(244.0 / 495.0, odds.getWinProbability(), OddsTest.EPSILON);
+        assertEquals(7.0 / 495.0, odds.getHouseEdge(), OddsTest.EPSILON);
+        assertEquals(557.0 / 165.0, odds.getExpectedRolls(), OddsTest.EPSILON);
+        assertEquals(12.0 / 36.0, odds.getLengthProbability(1), OddsTest.EPSILON);
+    }
+
+    /**
+     * Checks that the game length distribution adds up to 1 and that its mean
+     * is the expected amount of rolls.
+     */
+    @Test
+    public void testLengthDistribution() {
+        CrapsOdds odds = CrapsOdds.of(RuleSet.crapless().compile());
+        double[] distribution = odds.getLengthDistribution(2_000);
+
+        double total = 0;
+        double mean = 0;
+        for (int rolls = 1; rolls < distribution.length; rolls++) {
+            total += distribution[rolls];
+            mean += rolls * distribution[rolls];
+        }
+
+        assertEquals(1, total, 1e-9);
+        assertEquals(odds.getExpectedRolls(), mean, 1e-9);
+    }
+
+    /**
+     * Checks that the odds of equal rules are only solved once.
+     */
+    @Test
+    public void testCached() {
+        assertSame(CrapsOdds.standard(), CrapsOdds.of(RuleSet.standard().compile()));
+        assertSame(CrapsOdds.of(CompiledRules.STANDARD), CrapsOdds.standard());
+    }
+}
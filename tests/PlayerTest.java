@@ -1,17 +1,22 @@
 package tests;
 
+import libraries.observer.Subscription;
 import model.CrapsPlayer;
 import model.Dice;
 import model.ObservedCrapsPlayer;
+import model.PlayerChange;
 import model.WinState;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -155,4 +160,106 @@ public class PlayerTest {
             }
         }
     }
+
+    /**
+     * Checks that every operation publishes exactly one change set holding
+     * everything it changed, and that the individual subjects follow it in
+     * the order they got their first observer.
+     */
+    @Test
+    public void testChangeSets() {
+        ObservedCrapsPlayer observedPlayer = new ObservedCrapsPlayer();
+        List<PlayerChange> changes = new ArrayList<>();
+        List<String> order = new ArrayList<>();
+
+        observedPlayer.getChangeSubject().addObserver(changes::add);
+        observedPlayer.getBankSubject().addObserver((Integer bank) -> order.add("bank"));
+        observedPlayer.getDiceSubject().addObserver((Dice dice) -> order.add("dice"));
+        observedPlayer.getGameStateSubject().addObserver((Boolean playing) -> order.add("state"));
+        observedPlayer.getGameResultSubject().addObserver((WinState result) -> {
+            // the individual subjects are derived from the change set, so it comes first
+            assertEquals(result, changes.get(changes.size() - 1).result());
+            order.add("result");
+        });
+
+        observedPlayer.reinitialize(PlayerTest.RNG_TEST_ATTEMPTS);
+        assertEquals(1, changes.size());
+        assertEquals(List.of("bank", "state"), order);
+
+        for (int i = 0; i < PlayerTest.RNG_TEST_ATTEMPTS; i++) {
+            observedPlayer.setBet(1);
+            changes.clear();
+            order.clear();
+
+            observedPlayer.startGame();
+            while (observedPlayer.isPlaying()) {
+                observedPlayer.continueGame();
+            }
+
+            PlayerChange first = changes.get(0);
+            PlayerChange last = changes.get(changes.size() - 1);
+            assertTrue(first.has(PlayerChange.BANK) && first.has(PlayerChange.DICE) && first.has(PlayerChange.POINT));
+            assertEquals(first.dice().getSum(), first.point());
+            assertTrue(last.has(PlayerChange.RESULT) && !last.playing());
+            assertEquals(observedPlayer.getBank(), last.bank());
+            assertEquals(List.of("bank", "dice"), order.subList(0, 2));
+            assertEquals(List.of("state", "result"), order.subList(order.size() - 2, order.size()));
+
+            for (PlayerChange change : changes) {
+                assertTrue(change.has(PlayerChange.DICE));
+            }
+        }
+    }
+
+    /**
+     * Checks that bet and bank changes that leave the value as it was are
+     * not published.
+     */
+    @Test
+    public void testUnchangedValuesAreNotPublished() {
+        ObservedCrapsPlayer observedPlayer = new ObservedCrapsPlayer();
+        List<Integer> bets = new ArrayList<>();
+        List<PlayerChange> changes = new ArrayList<>();
+        observedPlayer.getBetSubject().addObserver(bets::add);
+        observedPlayer.getChangeSubject().addObserver(changes::add);
+
+        observedPlayer.reinitialize(5);
+        observedPlayer.setBet(5);
+        observedPlayer.incrementBet(1); // already at the bank limit
+        observedPlayer.setBet(5);
+        observedPlayer.setBank(5);
+
+        assertEquals(List.of(5), bets);
+        assertEquals(2, changes.size());
+    }
+
+    /**
+     * Checks that subjects of an ObservedCrapsPlayer only count as observed
+     * once something listens to them, and that asking for a subject does not
+     * make the change subject observed until the subject has observers.
+     */
+    @Test
+    public void testLazySubjects() {
+        ObservedCrapsPlayer observed = new ObservedCrapsPlayer();
+        assertFalse(observed.getBankSubject().hasObservers());
+        assertFalse(observed.getChangeSubject().hasObservers());
+
+        int[] bank = { -1 };
+        Subscription subscription = observed.getBankSubject().addObserver((Integer amount) -> bank[0] = amount);
+        assertTrue(observed.getChangeSubject().hasObservers());
+        observed.setBank(42);
+
+        assertTrue(observed.getBankSubject().hasObservers());
+        assertEquals(42, bank[0]);
+
+        subscription.close();
+        assertFalse(observed.getChangeSubject().hasObservers());
+        observed.setBank(7);
+        assertEquals(42, bank[0]);
+
+        // the bank is published again once something listens, even though it was set while nobody did
+        observed.getBankSubject().addObserver((Integer amount) -> bank[0] = amount);
+        observed.setBank(7);
+        assertEquals(7, bank[0]);
+    }
 }
@@ -0,0 +1,180 @@
+package tests;
+
+import libraries.observer.ConcurrentSubject;
+import libraries.observer.Subject;
+import libraries.observer.SubjectPublisher;
+import libraries.observer.SubjectPublisher.OverflowPolicy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class PublisherTest {
+    /**
+     * A subscriber that records every signal and only requests states when
+     * told to.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        final List<Integer> myItems = new ArrayList<>();
+        Flow.Subscription mySubscription;
+        Throwable myError;
+        boolean myComplete;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.mySubscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            this.myItems.add(item);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.myError = error;
+        }
+
+        @Override
+        public void onComplete() {
+            this.myComplete = true;
+        }
+    }
+
+    /**
+     * Publishes the numbers from 1 up to the given amount.
+     */
+    private static void publish(Subject<Integer> subject, int amount) {
+        for (int n = 1; n <= amount; n++) {
+            subject.update(n);
+        }
+    }
+
+    /**
+     * Checks that a subscriber only receives as many states as it requested
+     * and gets the rest once it requests more.
+     */
+    @Test
+    public void testDemand() {
+        Subject<Integer> source = new Subject<>();
+        SubjectPublisher<Integer> publisher = new SubjectPublisher<>(source, 8, OverflowPolicy.DROP_OLDEST, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        PublisherTest.publish(source, 5);
+        assertTrue(subscriber.myItems.isEmpty());
+
+        subscriber.mySubscription.request(2);
+        assertEquals(List.of(1, 2), subscriber.myItems);
+
+        subscriber.mySubscription.request(Long.MAX_VALUE);
+        source.update(6);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), subscriber.myItems);
+
+        publisher.close();
+        assertTrue(subscriber.myComplete);
+        assertNull(subscriber.myError);
+    }
+
+    /**
+     * Checks that a full buffer keeps the newest states when dropping the
+     * oldest ones.
+     */
+    @Test
+    public void testDropOldest() {
+        Subject<Integer> source = new Subject<>();
+        SubjectPublisher<Integer> publisher = new SubjectPublisher<>(source, 3, OverflowPolicy.DROP_OLDEST, Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        PublisherTest.publish(source, 10);
+        subscriber.mySubscription.request(10);
+
+        assertEquals(List.of(8, 9, 10), subscriber.myItems);
+        assertEquals(7, publisher.getDroppedCount());
+    }
+
+    /**
+     * Checks that overflowing a buffer with the fail policy cancels the
+     * subscriber with an error while other subscribers carry on.
+     */
+    @Test
+    public void testFail() {
+        Subject<Integer> source = new Subject<>();
+        SubjectPublisher<Integer> publisher = new SubjectPublisher<>(source, 2, OverflowPolicy.FAIL, Runnable::run);
+        RecordingSubscriber slow = new RecordingSubscriber();
+        RecordingSubscriber fast = new RecordingSubscriber();
+        publisher.subscribe(slow);
+        publisher.subscribe(fast);
+        fast.mySubscription.request(Long.MAX_VALUE);
+
+        PublisherTest.publish(source, 5);
+
+        assertTrue(slow.myError instanceof IllegalStateException);
+        assertTrue(slow.myItems.isEmpty());
+        assertEquals(List.of(1, 2, 3, 4, 5), fast.myItems);
+        assertNull(fast.myError);
+    }
+
+    /**
+     * Checks that the block policy holds the publishing thread back until
+     * the subscriber catches up, without losing any state.
+     */
+    @Test
+    public void testBlock() throws InterruptedException {
+        final int states = 1_000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ConcurrentSubject<Integer> source = new ConcurrentSubject<>();
+            SubjectPublisher<Integer> publisher = new SubjectPublisher<>(source, 4, OverflowPolicy.BLOCK, executor);
+            List<Integer> items = new ArrayList<>();
+            CountDownLatch complete = new CountDownLatch(1);
+
+            publisher.subscribe(new Flow.Subscriber<Integer>() {
+                private Flow.Subscription mySubscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.mySubscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    items.add(item);
+                    this.mySubscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable error) { }
+
+                @Override
+                public void onComplete() {
+                    complete.countDown();
+                }
+            });
+
+            PublisherTest.publish(source, states);
+            publisher.close();
+
+            assertTrue(complete.await(10, TimeUnit.SECONDS));
+            assertEquals(states, items.size());
+            assertEquals(states, (int) items.get(states - 1));
+            assertEquals(0, publisher.getDroppedCount());
+            assertFalse(source.hasObservers());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
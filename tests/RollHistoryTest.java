@@ -0,0 +1,113 @@
+package tests;
+
+import view.components.RollHistoryModel;
+import view.components.RollHistoryPanel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.EventQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.event.TableModelEvent;
+
+import org.junit.Test;
+
+public class RollHistoryTest {
+    /**
+     * Checks that a roll is packed and unpacked without losing anything.
+     */
+    @Test
+    public void testPacking() {
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                int row = RollHistoryModel.pack(die1, die2, die1 + die2, RollHistoryModel.LOST);
+
+                assertEquals(die1, RollHistoryModel.getDie1(row));
+                assertEquals(die2, RollHistoryModel.getDie2(row));
+                assertEquals(die1 + die2, RollHistoryModel.getPoint(row));
+                assertEquals(RollHistoryModel.LOST, RollHistoryModel.getResult(row));
+            }
+        }
+
+        assertEquals(0, RollHistoryModel.getPoint(RollHistoryModel.pack(3, 4, -1, RollHistoryModel.WON)));
+    }
+
+    /**
+     * Checks that the model grows up to its capacity, then drops the oldest
+     * rolls while the rows keep the number they were recorded with.
+     */
+    @Test
+    public void testRingBuffer() {
+        RollHistoryModel model = new RollHistoryModel(5000);
+        int[] batch = new int[700];
+
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < batch.length; j++) {
+                int roll = i * batch.length + j;
+                batch[j] = RollHistoryModel.pack(roll % 6 + 1, roll / 6 % 6 + 1, 0, RollHistoryModel.NO_RESULT);
+            }
+            model.append(batch, 0, batch.length, 0);
+        }
+
+        assertEquals(5000, model.getRowCount());
+        assertEquals(7000L, model.getRecordedCount());
+        assertEquals(2001L, model.getValueAt(0, 0));
+        assertEquals(7000L, model.getValueAt(4999, 0));
+
+        // roll #2001 was the 2000th roll counted from 0
+        assertEquals(2000 % 6 + 1, model.getValueAt(0, 1));
+        assertEquals(2000 / 6 % 6 + 1, model.getValueAt(0, 2));
+        assertEquals(6999 % 6 + 1, model.getValueAt(4999, 1));
+
+        model.append(RollHistoryModel.pack(6, 6, 0, RollHistoryModel.LOST));
+        assertEquals(12, model.getValueAt(4999, 3));
+        assertEquals("Lost", model.getValueAt(4999, 5));
+        assertEquals(7001L, model.getValueAt(4999, 0));
+
+        model.clear();
+        assertEquals(0, model.getRowCount());
+        assertEquals(0L, model.getRecordedCount());
+    }
+
+    /**
+     * Checks that rolls recorded on another thread reach the table in a few
+     * batches rather than one update per roll.
+     *
+     * @throws Exception If the rolls do not arrive in time.
+     */
+    @Test
+    public void testRecordIsBatched() throws Exception {
+        RollHistoryPanel panel = new RollHistoryPanel(1 << 16);
+        RollHistoryModel model = panel.getModel();
+        AtomicInteger inserts = new AtomicInteger();
+        model.addTableModelListener((TableModelEvent event) -> {
+            if (event.getType() == TableModelEvent.INSERT) {
+                inserts.incrementAndGet();
+            }
+        });
+
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                panel.record(i % 6 + 1, 1, 0, RollHistoryModel.NO_RESULT);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        AtomicLong recorded = new AtomicLong();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (recorded.get() < 100_000 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            EventQueue.invokeAndWait(() -> recorded.set(model.getRecordedCount()));
+        }
+
+        assertEquals(100_000L, recorded.get());
+        EventQueue.invokeAndWait(() -> {
+            assertEquals(1 << 16, model.getRowCount());
+            assertEquals(100_000L, model.getValueAt(model.getRowCount() - 1, 0));
+        });
+        assertTrue(inserts.get() < 1000);
+    }
+}
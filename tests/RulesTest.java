@@ -0,0 +1,72 @@
+package tests;
+
+import model.WinState;
+import model.rules.CompiledRules;
+import model.rules.RuleSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class RulesTest {
+    /**
+     * Checks every (point, sum) pair of the standard rules against the rules
+     * written out by hand.
+     */
+    @Test
+    public void testStandard() {
+        Set<Integer> firstTurnWins = new HashSet<>(Arrays.asList(7, 11));
+        Set<Integer> firstTurnLoss = new HashSet<>(Arrays.asList(2, 3, 12));
+        CompiledRules rules = CompiledRules.STANDARD;
+
+        for (int sum = 2; sum <= 12; sum++) {
+            WinState expected = firstTurnWins.contains(sum) ? WinState.WON
+                : firstTurnLoss.contains(sum) ? WinState.LOSS : WinState.ONGOING;
+            assertEquals(expected, rules.resolve(CompiledRules.COME_OUT, sum));
+        }
+
+        for (int point : new int[] {4, 5, 6, 8, 9, 10}) {
+            assertTrue(rules.isPoint(point));
+            for (int sum = 2; sum <= 12; sum++) {
+                WinState expected = (sum == point) ? WinState.WON
+                    : (sum == 7) ? WinState.LOSS : WinState.ONGOING;
+                assertEquals(expected, rules.resolve(point, sum));
+            }
+        }
+    }
+
+    /**
+     * Checks that crapless craps turns 2, 3, 11 and 12 into points.
+     */
+    @Test
+    public void testCrapless() {
+        CompiledRules rules = RuleSet.crapless().compile();
+
+        assertEquals(WinState.WON, rules.resolve(CompiledRules.COME_OUT, 7));
+        for (int sum : new int[] {2, 3, 11, 12}) {
+            assertEquals(WinState.ONGOING, rules.resolve(CompiledRules.COME_OUT, sum));
+            assertTrue(rules.isPoint(sum));
+            assertEquals(WinState.WON, rules.resolve(sum, sum));
+            assertEquals(WinState.LOSS, rules.resolve(sum, 7));
+        }
+        assertFalse(rules.isPoint(7));
+    }
+
+    /**
+     * Checks that rules that contradict themselves are rejected.
+     */
+    @Test
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new RuleSet().naturals(1));
+        assertThrows(IllegalArgumentException.class, () -> new RuleSet().craps(7).compile());
+        assertThrows(IllegalArgumentException.class, () -> new RuleSet().sevenOut(8).compile());
+        assertEquals(CompiledRules.STANDARD, RuleSet.standard().compile());
+    }
+}
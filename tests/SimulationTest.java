@@ -0,0 +1,109 @@
+package tests;
+
+import model.RandomGenerators;
+import model.analysis.CrapsOdds;
+import model.sim.Simulation;
+import model.sim.SimulationResult;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SimulationTest {
+    private static final int GAMES = 200_000;
+
+    /**
+     * Checks that every game is accounted for once the results of every task
+     * are merged together.
+     */
+    @Test
+    public void testTotals() {
+        SimulationResult result = new Simulation()
+            .games(SimulationTest.GAMES)
+            .gamesPerTask(1_000)
+            .startingBank(10)
+            .bet(1)
+            .run();
+
+        assertEquals(SimulationTest.GAMES, result.getGames());
+        assertEquals(result.getGames(), result.getWins() + result.getLosses());
+        assertEquals(result.getWins() - result.getLosses(), result.getNetWinnings());
+
+        long histogramGames = 0;
+        long histogramRolls = 0;
+        long[] histogram = result.getLengthHistogram();
+        for (int length = 1; length < histogram.length; length++) {
+            histogramGames += histogram[length];
+            histogramRolls += length * histogram[length];
+        }
+        assertEquals(result.getGames(), histogramGames);
+        assertTrue(histogramRolls <= result.getRolls());
+    }
+
+    /**
+     * Checks that the win rate and game length are close to the known values
+     * of craps (244/495 and 557/165).
+     */
+    @Test
+    public void testOdds() {
+        SimulationResult result = new Simulation()
+            .games(SimulationTest.GAMES)
+            .run();
+
+        assertEquals(244.0 / 495.0, result.getWinRate(), 0.01);
+        assertEquals(557.0 / 165.0, result.getAverageGameLength(), 0.05);
+    }
+
+    /**
+     * Checks that sampled games follow the exact win rate and game length
+     * distribution, the same way rolled games do.
+     */
+    @Test
+    public void testSampled() {
+        SimulationResult result = new Simulation()
+            .games(SimulationTest.GAMES)
+            .sampled(true)
+            .run();
+        CrapsOdds odds = CrapsOdds.standard();
+
+        assertEquals(odds.getWinProbability(), result.getWinRate(), 0.01);
+        assertEquals(odds.getExpectedRolls(), result.getAverageGameLength(), 0.05);
+        for (int rolls = 1; rolls <= 10; rolls++) {
+            double expected = odds.getLengthProbability(rolls);
+            double actual = (double) result.getGamesWithLength(rolls) / result.getGames();
+            assertEquals(expected, actual, 0.01);
+        }
+    }
+
+    /**
+     * Checks that the same seed gives the same result no matter how the
+     * tasks were scheduled.
+     */
+    @Test
+    public void testSeeded() {
+        SimulationResult first = new Simulation()
+            .games(SimulationTest.GAMES)
+            .gamesPerTask(1_000)
+            .random(RandomGenerators.mixed(42))
+            .run();
+        SimulationResult second = new Simulation()
+            .games(SimulationTest.GAMES)
+            .gamesPerTask(1_000)
+            .random(RandomGenerators.mixed(42))
+            .run();
+
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(first.getRolls(), second.getRolls());
+    }
+
+    /**
+     * Checks that a bet the starting bank cannot cover is rejected.
+     */
+    @Test
+    public void testIllegalBet() {
+        assertThrows(IllegalArgumentException.class, new Simulation().startingBank(5).bet(6)::run);
+        assertThrows(IllegalArgumentException.class, new Simulation().bet(0)::run);
+    }
+}
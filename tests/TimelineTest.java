@@ -0,0 +1,78 @@
+package tests;
+
+import libraries.timing.Timeline;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimelineTest {
+    /**
+     * Checks that milestones keep the time of their first mark and the order
+     * they were reached in.
+     */
+    @Test
+    public void testFirstMarkCounts() {
+        Timeline timeline = new Timeline(System.nanoTime() - Duration.ofMillis(5).toNanos());
+
+        Duration first = timeline.mark("first");
+        Duration second = timeline.mark("second");
+        assertEquals(first, timeline.mark("first"));
+        assertTrue(first.compareTo(Duration.ofMillis(5)) >= 0);
+        assertTrue(timeline.between("first", "second").compareTo(Duration.ZERO) >= 0);
+
+        List<Timeline.Milestone> milestones = timeline.getMilestones();
+        assertEquals(2, milestones.size());
+        assertEquals(new Timeline.Milestone("first", first), milestones.get(0));
+        assertEquals(new Timeline.Milestone("second", second), milestones.get(1));
+
+        assertFalse(timeline.has("third"));
+        assertNull(timeline.get("third"));
+        assertNull(timeline.between("first", "third"));
+    }
+
+    /**
+     * Checks that the startup timeline starts before the program does.
+     */
+    @Test
+    public void testStartupTimelineStartsWithJvm() {
+        Timeline startup = Timeline.startup();
+
+        assertTrue(startup == Timeline.startup());
+        assertTrue(startup.mark("test").compareTo(Duration.ZERO) > 0);
+    }
+
+    /**
+     * Checks that appending to a CSV file writes the header only once.
+     *
+     * @throws Exception If the file cannot be written.
+     */
+    @Test
+    public void testCsvIsAppended() throws Exception {
+        Path file = Files.createTempFile("timeline", ".csv");
+        Files.delete(file);
+        try {
+            Timeline timeline = Timeline.sinceNow();
+            timeline.mark("first-frame");
+
+            timeline.appendCsv(file, "1.0");
+            timeline.appendCsv(file, "1.1");
+
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(3, lines.size());
+            assertEquals("release,milestone,millis", lines.get(0));
+            assertTrue(lines.get(1).startsWith("1.0,first-frame,"));
+            assertTrue(lines.get(2).startsWith("1.1,first-frame,"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package view;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.awt.event.ActionEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.Timer;
+
+/**
+ * AnimationClock drives animations on the EDT with a single Swing Timer.
+ * The timer only runs while an animation is active, and it coalesces ticks
+ * so a busy EDT is never flooded with queued frames. Animations are told the
+ * current time instead of counting frames, so a dropped frame makes an
+ * animation skip ahead rather than slow down.
+ *
+ * A frame is dropped when the tick arrives more than the frame budget late
+ * (the EDT was busy with input or model updates), and the frames after one
+ * that took longer than the budget to run are dropped as well. At most
+ * MAX_SKIPPED_FRAMES frames are dropped in a row, so animations keep moving
+ * on an EDT that is always late.
+ */
+public final class AnimationClock {
+    /**
+     * An Animation is advanced by an AnimationClock once per frame.
+     */
+    @FunctionalInterface
+    public interface Animation {
+        /**
+         * Advances the animation to the given time.
+         *
+         * @param now The current System.nanoTime().
+         * @return True if the animation wants more frames.
+         */
+        boolean onFrame(long now);
+    }
+
+    /** The frame rate used when the display's refresh rate is unknown. */
+    public static final int DEFAULT_FRAME_RATE = 60;
+    /** The most frames dropped in a row, whether they were late or followed a slow frame. */
+    private static final int MAX_SKIPPED_FRAMES = 4;
+
+    /** The clock shared by every component. */
+    private static AnimationClock shared;
+
+    /** The timer ticking once per frame. */
+    private final Timer myTimer;
+    /** The active animations. */
+    private final List<Animation> myAnimations;
+    /** How long a frame may take or be late before frames are dropped. */
+    private long myFrameBudget;
+    /** When the previous tick happened. */
+    private long myLastTick;
+    /** How many upcoming frames to drop. */
+    private int mySkip;
+    /** How many frames were dropped since the last one that ran. */
+    private int myDroppedInRow;
+    /** How many frames were run. */
+    private long myFrames;
+    /** How many frames were dropped. */
+    private long myDroppedFrames;
+
+    /**
+     * Constructs an AnimationClock.
+     *
+     * @param framesPerSecond How many frames to run per second.
+     * @param frameBudget How long a frame may take or be late before frames
+     * are dropped.
+     */
+    public AnimationClock(int framesPerSecond, Duration frameBudget) {
+        this.myTimer = new Timer(AnimationClock.delayOf(framesPerSecond), this::tick);
+        this.myTimer.setCoalesce(true);
+        this.myAnimations = new ArrayList<>();
+        this.myFrameBudget = frameBudget.toNanos();
+        this.myLastTick = 0;
+        this.mySkip = 0;
+        this.myDroppedInRow = 0;
+        this.myFrames = 0;
+        this.myDroppedFrames = 0;
+    }
+
+    /**
+     * Gets the clock shared by every component, running at the display's
+     * refresh rate with a budget of half a frame.
+     *
+     * @return The shared clock.
+     */
+    public static synchronized AnimationClock shared() {
+        if (AnimationClock.shared == null) {
+            int frameRate = AnimationClock.getDisplayRefreshRate();
+            AnimationClock.shared = new AnimationClock(frameRate, Duration.ofNanos(500_000_000L / frameRate));
+        }
+
+        return AnimationClock.shared;
+    }
+
+    /**
+     * Gets the refresh rate of the default screen.
+     *
+     * @return The refresh rate (DEFAULT_FRAME_RATE if it is unknown).
+     */
+    public static int getDisplayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return AnimationClock.DEFAULT_FRAME_RATE;
+        }
+
+        int refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDisplayMode()
+            .getRefreshRate();
+
+        return (refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN) ? AnimationClock.DEFAULT_FRAME_RATE : refreshRate;
+    }
+
+    /**
+     * Gets the timer delay of the given frame rate.
+     *
+     * @param framesPerSecond The frame rate.
+     * @return The delay in milliseconds.
+     */
+    private static int delayOf(int framesPerSecond) {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("Frame rate must be positive");
+        }
+
+        return Math.max(1, 1000 / framesPerSecond);
+    }
+
+    /**
+     * Sets how many frames to run per second.
+     *
+     * @param framesPerSecond The frame rate.
+     * @return This clock.
+     */
+    public AnimationClock setFrameRate(int framesPerSecond) {
+        this.myTimer.setDelay(AnimationClock.delayOf(framesPerSecond));
+
+        return this;
+    }
+
+    /**
+     * Sets how long a frame may take or be late before frames are dropped.
+     *
+     * @param frameBudget The budget.
+     * @return This clock.
+     */
+    public AnimationClock setFrameBudget(Duration frameBudget) {
+        this.myFrameBudget = frameBudget.toNanos();
+
+        return this;
+    }
+
+    /**
+     * Gets how many frames were run.
+     *
+     * @return The amount of frames.
+     */
+    public long getFrameCount() {
+        return this.myFrames;
+    }
+
+    /**
+     * Gets how many frames were dropped.
+     *
+     * @return The amount of frames.
+     */
+    public long getDroppedFrameCount() {
+        return this.myDroppedFrames;
+    }
+
+    /**
+     * Starts advancing the animation every frame until it asks to stop. Does
+     * nothing if the animation is already running. Must be called on the EDT.
+     *
+     * @param animation The animation.
+     */
+    public void start(Animation animation) {
+        if (this.myAnimations.contains(animation)) {
+            return;
+        }
+
+        this.myAnimations.add(animation);
+        if (!this.myTimer.isRunning()) {
+            this.myLastTick = System.nanoTime();
+            this.mySkip = 0;
+            this.myDroppedInRow = 0;
+            this.myTimer.start();
+        }
+    }
+
+    /**
+     * Stops advancing the animation. Must be called on the EDT.
+     *
+     * @param animation The animation.
+     */
+    public void stop(Animation animation) {
+        this.myAnimations.remove(animation);
+        if (this.myAnimations.isEmpty()) {
+            this.myTimer.stop();
+        }
+    }
+
+    /**
+     * Runs or drops a frame at the current time.
+     *
+     * @param event The timer's event.
+     */
+    private void tick(ActionEvent event) {
+        this.tick(System.nanoTime());
+    }
+
+    /**
+     * Runs or drops a frame at the given time, as the timer does on every
+     * tick. Must be called on the EDT.
+     *
+     * @param now The time of the tick (System.nanoTime()).
+     */
+    public void tick(long now) {
+        long late = now - this.myLastTick - this.myTimer.getDelay() * 1_000_000L;
+        this.myLastTick = now;
+
+        boolean drop = this.mySkip > 0 || late > this.myFrameBudget;
+        this.mySkip = Math.max(this.mySkip - 1, 0);
+        if (drop && this.myDroppedInRow < AnimationClock.MAX_SKIPPED_FRAMES) {
+            this.myDroppedInRow++;
+            this.myDroppedFrames++;
+            return;
+        }
+        this.myDroppedInRow = 0;
+
+        long start = System.nanoTime();
+        for (int i = this.myAnimations.size() - 1; i >= 0; i--) {
+            if (!this.myAnimations.get(i).onFrame(now)) {
+                this.myAnimations.remove(i);
+            }
+        }
+        this.myFrames++;
+
+        long spent = System.nanoTime() - start;
+        if (spent > this.myFrameBudget && this.myFrameBudget > 0) {
+            this.mySkip = (int) Math.min(spent / this.myFrameBudget, AnimationClock.MAX_SKIPPED_FRAMES);
+        }
+
+        if (this.myAnimations.isEmpty()) {
+            this.myTimer.stop();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package view.components;
+
+import java.awt.FlowLayout;
+import java.awt.event.ActionListener;
+
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+
+/**
+ * AutoPlayPanel represents a JPanel with the controls of an auto-play run:
+ * how many games to play, the bet policy to play them with, the progress of
+ * the run and the buttons that start and cancel it. It only shows the run,
+ * so the games are played by whoever listens to its buttons.
+ */
+public class AutoPlayPanel extends JPanel {
+    /** The bet policies offered by default. */
+    private static final String[] POLICIES = {"flat:10", "martingale:5", "fraction:0.1"};
+    /** How many games are played by default. */
+    private static final int DEFAULT_GAMES = 1000;
+    /** The most games a run can play. */
+    private static final int MAX_GAMES = 1_000_000;
+
+    /** How many games to play. */
+    private final JSpinner games;
+    /** The bet policy, picked from the presets or typed in. */
+    private final JComboBox<String> policy;
+    /** The games played so far. */
+    private final JProgressBar progress;
+    /** Starts a run. */
+    private final JButton startButton;
+    /** Cancels a run. */
+    private final JButton cancelButton;
+
+    /**
+     * Constructs an AutoPlayPanel.
+     */
+    public AutoPlayPanel() {
+        super(new FlowLayout(FlowLayout.CENTER));
+
+        this.games = new JSpinner(new SpinnerNumberModel(
+            AutoPlayPanel.DEFAULT_GAMES, 1, AutoPlayPanel.MAX_GAMES, AutoPlayPanel.DEFAULT_GAMES
+        ));
+        this.policy = new JComboBox<>(AutoPlayPanel.POLICIES);
+        this.policy.setEditable(true);
+        this.progress = new JProgressBar();
+        this.progress.setStringPainted(true);
+        this.progress.setString("");
+        this.startButton = new JButton("Auto Play");
+        this.startButton.setFocusPainted(false);
+        this.cancelButton = new JButton("Cancel");
+        this.cancelButton.setFocusPainted(false);
+        this.cancelButton.setEnabled(false);
+
+        this.add(new JLabel("Games: "));
+        this.add(this.games);
+        this.add(new JLabel("Policy: "));
+        this.add(this.policy);
+        this.add(this.startButton);
+        this.add(this.cancelButton);
+        this.add(this.progress);
+    }
+
+    /**
+     * Gets how many games to play.
+     *
+     * @return The amount of games.
+     */
+    public int getGames() {
+        return (Integer) this.games.getValue();
+    }
+
+    /**
+     * Gets the bet policy as it was picked or typed in, such as "flat:10".
+     *
+     * @return The text of the policy.
+     */
+    public String getPolicyText() {
+        Object selected = this.policy.getEditor().getItem();
+
+        return (selected == null) ? "" : selected.toString().trim();
+    }
+
+    /**
+     * Adds a listener to the button that starts a run.
+     *
+     * @param listener The listener.
+     * @return This AutoPlayPanel.
+     */
+    public AutoPlayPanel addStartListener(ActionListener listener) {
+        this.startButton.addActionListener(listener);
+
+        return this;
+    }
+
+    /**
+     * Adds a listener to the button that cancels a run.
+     *
+     * @param listener The listener.
+     * @return This AutoPlayPanel.
+     */
+    public AutoPlayPanel addCancelListener(ActionListener listener) {
+        this.cancelButton.addActionListener(listener);
+
+        return this;
+    }
+
+    /**
+     * Switches the controls between a run that plays and one that does not.
+     *
+     * @param running True if a run plays.
+     */
+    public void setRunning(boolean running) {
+        this.games.setEnabled(!running);
+        this.policy.setEnabled(!running);
+        this.startButton.setEnabled(!running);
+        this.cancelButton.setEnabled(running);
+    }
+
+    /**
+     * Shows the progress of a run.
+     *
+     * @param played How many games were played.
+     * @param total How many games the run plays at most.
+     */
+    public void setProgress(int played, int total) {
+        this.progress.setMaximum(total);
+        this.progress.setValue(played);
+        this.progress.setString(played + " / " + total);
+    }
+}
@@ -3,12 +3,28 @@ package view.components;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 
+import view.AnimationClock;
+
 /**
- * DiePanel represents a JPanel that is responsible for drawing a die.
+ * DiePanel represents a JPanel that is responsible for drawing a die. The
+ * faces are rendered once per size and painted as a single image.
+ *
+ * Rolling the die tumbles it through random faces on the shared animation
+ * clock before it settles on the rolled number. The tumble only changes what
+ * is drawn, so the number it settles on is known as soon as the die is rolled.
+ * The die settles on the first frame after the roll duration has passed, and
+ * the clock never drops more than a few frames in a row, so it settles on
+ * time even on a busy EDT.
  */
 public class DiePanel extends JPanel {
     /**
@@ -31,10 +47,46 @@ public class DiePanel extends JPanel {
     /** The appearance of the die when it is a 6. */
     private static final int SIX   = 0b101_101_101;
 
-    /** The number shown on this DiePanel. */
+    /** The pip patterns of the faces, indexed by the number shown. */
+    private static final int[] FACES = {
+        0, DiePanel.ONE, DiePanel.TWO, DiePanel.THREE, DiePanel.FOUR, DiePanel.FIVE, DiePanel.SIX
+    };
+
+    /**
+     * The rendered faces of every size and background drawn so far, indexed
+     * by the number shown. Every DiePanel of the same size and background 
+     * shares the same images.
+     */
+    private static final Map<Long, BufferedImage[]> FACE_CACHE = new ConcurrentHashMap<>();
+
+    /** How long a roll tumbles by default. */
+    private static final Duration DEFAULT_ROLL_DURATION = Duration.ofMillis(600);
+    /** How long a face is shown at the start of a roll. */
+    private static final long FACE_NANOS = 40_000_000L;
+    /** How far the die is turned at the start of a roll, in radians. */
+    private static final double MAX_TILT = Math.PI / 6;
+
+    /** The number shown on this DiePanel (0 shows no pips). */
     private int number;
     /** The preferred size of this DiePanel. */
     private final Dimension preferredSize;
+
+    /** The clock the tumble runs on. */
+    private AnimationClock clock;
+    /** The tumble, advanced by the clock every frame. */
+    private final AnimationClock.Animation tumble;
+    /** How long a roll tumbles, in nanoseconds (0 disables the tumble). */
+    private long rollNanos;
+    /** The number the die settles on once the tumble ends. */
+    private int target;
+    /** When the tumble started (System.nanoTime()). */
+    private long rollStart;
+    /** When the tumble last changed the face (System.nanoTime()). */
+    private long faceChange;
+    /** How far the die is turned, in radians. */
+    private double tilt;
+    /** Whether the die is tumbling. */
+    private boolean rolling;
     
     /**
      * Constructs a DiePanel.
@@ -43,22 +95,62 @@ public class DiePanel extends JPanel {
         super();
 
         this.number = 0;
+        this.clock = AnimationClock.shared();
+        this.tumble = this::tumble;
+        this.rollNanos = DiePanel.DEFAULT_ROLL_DURATION.toNanos();
+        this.target = 0;
+        this.tilt = 0;
+        this.rolling = false;
 
         Dimension size = this.getSize();
         int preferredLength = Math.max(Math.min((int) size.getWidth(), (int) size.getHeight()), 50);
 
         this.preferredSize = new Dimension(preferredLength, preferredLength);
         super.setPreferredSize(this.preferredSize);
-    }
-    
-    @Override
-    public void paintComponent(Graphics g) {
         super.setBorder(BorderFactory.createLineBorder(Color.black));
-        
-        super.paintComponent(g);
+        super.setDoubleBuffered(true);
+    }
 
-        int sectionSize = this.getSectionSize();
-        int numberCopy = this.number;
+    /**
+     * Gets the rendered faces for the given section size and background,
+     * rendering them the first time they are asked for.
+     * 
+     * @param sectionSize The height/width of a single circle within the die.
+     * @param background The background color.
+     * @return The faces, indexed by the number shown.
+     */
+    private static BufferedImage[] getFaces(int sectionSize, Color background) {
+        long key = ((long) background.getRGB() << 32) | sectionSize;
+
+        return DiePanel.FACE_CACHE.computeIfAbsent(key, (Long unused) -> {
+            BufferedImage[] faces = new BufferedImage[DiePanel.FACES.length];
+            for (int face = 0; face < faces.length; face++) {
+                faces[face] = DiePanel.renderFace(DiePanel.FACES[face], sectionSize, background);
+            }
+
+            return faces;
+        });
+    }
+
+    /**
+     * Draws the pips of a face onto an opaque image, so painting it is a 
+     * plain copy without blending.
+     * 
+     * @param pattern The pip pattern of the face.
+     * @param sectionSize The height/width of a single circle within the die.
+     * @param background The background color.
+     * @return The image.
+     */
+    private static BufferedImage renderFace(int pattern, int sectionSize, Color background) {
+        // one extra pixel so the right and bottom edges of the circles fit
+        int length = 3 * sectionSize + 1;
+        BufferedImage image = new BufferedImage(length, length, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(background);
+        g.fillRect(0, 0, length, length);
+        g.setColor(Color.black);
+
+        int numberCopy = pattern;
         for (int rowIndex = 0; rowIndex < 3; rowIndex++) {
             int row = numberCopy & 0b111;
             numberCopy >>= 3;
@@ -73,41 +165,197 @@ public class DiePanel extends JPanel {
                 row >>= 1;
             }
         }
+
+        g.dispose();
+
+        return image;
+    }
+    
+    @Override
+    public void paintComponent(Graphics g) {
+        int sectionSize = this.getSectionSize();
+        if (sectionSize <= 0) {
+            super.paintComponent(g);
+            return;
+        }
+
+        BufferedImage face = DiePanel.getFaces(sectionSize, this.getBackground())[this.number];
+        if (this.tilt != 0) {
+            super.paintComponent(g);
+
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.rotate(this.tilt, face.getWidth() / 2.0, face.getHeight() / 2.0);
+            g2.drawImage(face, 0, 0, null);
+            g2.dispose();
+            return;
+        }
+
+        if (face.getWidth() < this.getWidth() || face.getHeight() < this.getHeight()) {
+            super.paintComponent(g); // the face does not cover the whole panel
+        }
+
+        g.drawImage(face, 0, 0, null);
     }
 
     /**
-     * Sets the number shown on this DiePanel and draws it.
+     * Gets the number shown on this DiePanel.
+     * 
+     * @return The number (0 if no pips are shown).
+     */
+    public int getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Sets the number shown on this DiePanel right away, stopping the tumble
+     * if the die is rolling. Repaints are coalesced by Swing, so setting the
+     * number many times before the next frame only draws the last one.
      * 
      * @param number The new number.
      */
     public void setNumber(final int number) {
-        switch (number) {
-            case 0:
-                this.number = 0;
-                break;
-            case 1:
-                this.number = DiePanel.ONE;
-                break;
-            case 2:
-                this.number = DiePanel.TWO;
-                break;
-            case 3:
-                this.number = DiePanel.THREE;
-                break;
-            case 4:
-                this.number = DiePanel.FOUR;
-                break;
-            case 5:
-                this.number = DiePanel.FIVE;
-                break;
-            case 6:
-                this.number = DiePanel.SIX;
-                break;
-            default:
-                throw new IllegalArgumentException("Given number is not a valid die number");
+        DiePanel.checkNumber(number);
+
+        this.target = number;
+        if (this.rolling) {
+            this.clock.stop(this.tumble);
+            this.settle();
+        } else {
+            this.show(number);
         }
+    }
+
+    /**
+     * Gets the number the die shows once it stops tumbling.
+     * 
+     * @return The number (0 if no pips are shown).
+     */
+    public int getTarget() {
+        return this.target;
+    }
 
-        this.paintComponent(super.getGraphics());
+    /**
+     * Checks if the die is tumbling.
+     * 
+     * @return True if the die is tumbling.
+     */
+    public boolean isRolling() {
+        return this.rolling;
+    }
+
+    /**
+     * Rolls the die: it tumbles for the roll duration and then shows the
+     * given number. Rolling again while the die is tumbling only changes the
+     * number it settles on. The die shows the number right away if it is not
+     * on screen or the roll duration is zero. Must be called on the EDT.
+     * 
+     * @param number The number rolled.
+     */
+    public void roll(final int number) {
+        DiePanel.checkNumber(number);
+
+        this.target = number;
+        if (this.rolling) {
+            return;
+        } else if (this.rollNanos == 0 || !this.isShowing()) {
+            this.show(number);
+            return;
+        }
+
+        this.rolling = true;
+        this.rollStart = System.nanoTime();
+        this.faceChange = this.rollStart;
+        this.clock.start(this.tumble);
+    }
+
+    /**
+     * Sets how long a roll tumbles.
+     * 
+     * @param duration The duration (zero disables the tumble).
+     */
+    public void setRollDuration(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Roll duration must not be negative");
+        }
+
+        this.rollNanos = duration.toNanos();
+    }
+
+    /**
+     * Sets the clock the tumble runs on.
+     * 
+     * @param clock The clock.
+     */
+    public void setAnimationClock(AnimationClock clock) {
+        if (this.rolling) {
+            this.clock.stop(this.tumble);
+            clock.start(this.tumble);
+        }
+
+        this.clock = clock;
+    }
+
+    /**
+     * Advances the tumble. Faces change less often and the die turns less as
+     * the roll slows down, all based on the time since the roll started.
+     * 
+     * @param now The current time (System.nanoTime()).
+     * @return True while the die is tumbling.
+     */
+    private boolean tumble(long now) {
+        long elapsed = now - this.rollStart;
+        if (!this.rolling || elapsed >= this.rollNanos) {
+            this.settle();
+            return false;
+        }
+
+        double progress = elapsed / (double) this.rollNanos;
+        double slowdown = 1 - progress;
+        if (now - this.faceChange >= DiePanel.FACE_NANOS / (slowdown * slowdown)) {
+            this.faceChange = now;
+            // any face but the current one, so every change is visible
+            this.number = 1 + (this.number + ThreadLocalRandom.current().nextInt(1, 6) - 1) % 6;
+        }
+        this.tilt = DiePanel.MAX_TILT * slowdown * Math.sin(progress * 4 * Math.PI);
+        this.repaint();
+
+        return true;
+    }
+
+    /**
+     * Ends the tumble and shows the number rolled. The tumble must already be
+     * off the clock, or be about to ask it to stop.
+     */
+    private void settle() {
+        this.rolling = false;
+        this.tilt = 0;
+        this.show(this.target);
+        this.repaint();
+    }
+
+    /**
+     * Shows the given number and schedules a repaint if it changed. Repaints
+     * are coalesced by Swing, so showing many numbers before the next frame
+     * only draws the last one.
+     * 
+     * @param number The number.
+     */
+    private void show(int number) {
+        if (this.number != number) {
+            this.number = number;
+            this.repaint();
+        }
+    }
+
+    /**
+     * Checks that the given number can be shown on a die.
+     * 
+     * @param number The number.
+     */
+    private static void checkNumber(int number) {
+        if (number < 0 || number >= DiePanel.FACES.length) {
+            throw new IllegalArgumentException("Given number is not a valid die number");
+        }
     }
 
     /**
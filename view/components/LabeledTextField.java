@@ -96,6 +96,16 @@ public class LabeledTextField {
         return this;
     }
 
+    /**
+     * Replaces the text in this LabeledTextField's JTextField. Must be called
+     * after it is built.
+     * 
+     * @param text The new text.
+     */
+    public void setText(String text) {
+        this.textField.setText(text);
+    }
+
     /**
      * Makes the JTextField enabled/disabled when it is made. If True is passed
      * then the JTextField will be enabled, otherwise it is disabled.
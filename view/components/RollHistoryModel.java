@@ -0,0 +1,301 @@
+package view.components;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * RollHistoryModel represents the rolls of a session as a TableModel. Every
+ * roll is packed into a single int (the dice, the point it set and the result
+ * of the game it ended) and kept in a ring buffer, so millions of rolls take
+ * a few megabytes and a JTable only unpacks the rows it paints.
+ *
+ * The buffer grows until it holds the capacity, after which every new roll
+ * replaces the oldest one. Rows keep the number they were recorded with, so
+ * the oldest row shown is not roll #1 once rolls were dropped. The model is
+ * only used on the EDT.
+ */
+public class RollHistoryModel extends AbstractTableModel {
+    /** The roll did not end the game. */
+    public static final int NO_RESULT = 0;
+    /** The roll won the game. */
+    public static final int WON = 1;
+    /** The roll lost the game. */
+    public static final int LOST = 2;
+
+    /** How many rolls are kept by default (16 MB once it is full). */
+    public static final int DEFAULT_CAPACITY = 1 << 22;
+    /** How many rolls the buffer holds before it first grows. */
+    private static final int INITIAL_SIZE = 1 << 10;
+
+    /** The bits of die #1. */
+    private static final int DIE1_SHIFT = 0;
+    /** The bits of die #2. */
+    private static final int DIE2_SHIFT = 3;
+    /** The bits of the point. */
+    private static final int POINT_SHIFT = 6;
+    /** The bits of the result. */
+    private static final int RESULT_SHIFT = 10;
+    /** The mask of a die. */
+    private static final int DIE_MASK = 0b111;
+    /** The mask of the point. */
+    private static final int POINT_MASK = 0b1111;
+    /** The mask of the result. */
+    private static final int RESULT_MASK = 0b11;
+
+    /** The names of the columns. */
+    private static final String[] COLUMNS = {"Roll", "Die 1", "Die 2", "Total", "Point", "Result"};
+    /** The classes of the columns. */
+    private static final Class<?>[] COLUMN_CLASSES = {
+        Long.class, Integer.class, Integer.class, Integer.class, Integer.class, String.class
+    };
+    /** The text of every result, indexed by the result. */
+    private static final String[] RESULTS = {"", "Won", "Lost", ""};
+
+    /** The most rolls kept. */
+    private final int capacity;
+    /** The packed rolls, from index head on (wrapping around). */
+    private int[] rows;
+    /** Where the oldest roll is in rows. */
+    private int head;
+    /** How many rolls are kept. */
+    private int size;
+    /** How many rolls were ever recorded, including the dropped ones. */
+    private long recorded;
+
+    /**
+     * Constructs a RollHistoryModel that keeps the default amount of rolls.
+     */
+    public RollHistoryModel() {
+        this(RollHistoryModel.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a RollHistoryModel.
+     *
+     * @param capacity The most rolls kept.
+     */
+    public RollHistoryModel(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.capacity = capacity;
+        this.rows = new int[Math.min(capacity, RollHistoryModel.INITIAL_SIZE)];
+        this.head = 0;
+        this.size = 0;
+        this.recorded = 0;
+    }
+
+    /**
+     * Packs a roll into an int.
+     *
+     * @param die1 Die #1 (1 to 6).
+     * @param die2 Die #2 (1 to 6).
+     * @param point The point the roll set (0 if it set none).
+     * @param result NO_RESULT, WON or LOST.
+     * @return The packed roll.
+     */
+    public static int pack(int die1, int die2, int point, int result) {
+        return (die1 << RollHistoryModel.DIE1_SHIFT)
+             | (die2 << RollHistoryModel.DIE2_SHIFT)
+             | (Math.max(point, 0) << RollHistoryModel.POINT_SHIFT)
+             | (result << RollHistoryModel.RESULT_SHIFT);
+    }
+
+    /**
+     * Gets die #1 of a packed roll.
+     *
+     * @param row The packed roll.
+     * @return Die #1.
+     */
+    public static int getDie1(int row) {
+        return (row >>> RollHistoryModel.DIE1_SHIFT) & RollHistoryModel.DIE_MASK;
+    }
+
+    /**
+     * Gets die #2 of a packed roll.
+     *
+     * @param row The packed roll.
+     * @return Die #2.
+     */
+    public static int getDie2(int row) {
+        return (row >>> RollHistoryModel.DIE2_SHIFT) & RollHistoryModel.DIE_MASK;
+    }
+
+    /**
+     * Gets the point a packed roll set.
+     *
+     * @param row The packed roll.
+     * @return The point (0 if it set none).
+     */
+    public static int getPoint(int row) {
+        return (row >>> RollHistoryModel.POINT_SHIFT) & RollHistoryModel.POINT_MASK;
+    }
+
+    /**
+     * Gets the result of a packed roll.
+     *
+     * @param row The packed roll.
+     * @return NO_RESULT, WON or LOST.
+     */
+    public static int getResult(int row) {
+        return (row >>> RollHistoryModel.RESULT_SHIFT) & RollHistoryModel.RESULT_MASK;
+    }
+
+    /**
+     * Gets the most rolls kept.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets how many rolls were ever recorded, including the dropped ones.
+     *
+     * @return The amount of rolls.
+     */
+    public long getRecordedCount() {
+        return this.recorded;
+    }
+
+    /**
+     * Gets a packed roll.
+     *
+     * @param rowIndex The row of the roll (0 is the oldest kept).
+     * @return The packed roll.
+     */
+    public int getPackedRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.size) {
+            throw new IndexOutOfBoundsException("Row " + rowIndex + " of " + this.size);
+        }
+
+        int index = this.head + rowIndex;
+        return this.rows[(index < this.rows.length) ? index : index - this.rows.length];
+    }
+
+    /**
+     * Adds a packed roll.
+     *
+     * @param row The packed roll.
+     */
+    public void append(int row) {
+        this.append(new int[] {row}, 0, 1, 0);
+    }
+
+    /**
+     * Adds packed rolls and tells the table once for all of them.
+     *
+     * @param batch The packed rolls.
+     * @param offset Where the rolls start in batch.
+     * @param count How many rolls to add.
+     * @param dropped How many rolls were recorded before these but dropped
+     *                before they could be added.
+     */
+    public void append(int[] batch, int offset, int count, long dropped) {
+        if (count <= 0) {
+            this.recorded += dropped;
+            return;
+        }
+
+        // only the newest rolls of a batch larger than the capacity are kept
+        int skipped = Math.max(0, count - this.capacity);
+        this.recorded += dropped + skipped;
+        offset += skipped;
+        count -= skipped;
+
+        this.ensureLength(this.size + count);
+        int removed = Math.max(0, this.size + count - this.capacity);
+        if (removed > 0) {
+            this.head = (this.head + removed) % this.rows.length;
+            this.size -= removed;
+            this.fireTableRowsDeleted(0, removed - 1);
+        }
+
+        int tail = (this.head + this.size) % this.rows.length;
+        int first = Math.min(count, this.rows.length - tail);
+        System.arraycopy(batch, offset, this.rows, tail, first);
+        System.arraycopy(batch, offset + first, this.rows, 0, count - first);
+
+        int inserted = this.size;
+        this.size += count;
+        this.recorded += count;
+        this.fireTableRowsInserted(inserted, this.size - 1);
+    }
+
+    /**
+     * Removes every roll and starts counting them from 1 again.
+     */
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+        this.recorded = 0;
+        this.rows = new int[Math.min(this.capacity, RollHistoryModel.INITIAL_SIZE)];
+        this.fireTableDataChanged();
+    }
+
+    /**
+     * Grows the buffer (up to the capacity) so it can hold the given amount
+     * of rolls, keeping the oldest one at index 0.
+     *
+     * @param needed How many rolls the buffer must hold.
+     */
+    private void ensureLength(int needed) {
+        if (needed <= this.rows.length || this.rows.length == this.capacity) {
+            return;
+        }
+
+        int length = this.rows.length;
+        while (length < needed && length < this.capacity) {
+            length = (int) Math.min((long) length * 2, this.capacity);
+        }
+
+        int[] grown = new int[length];
+        int first = Math.min(this.size, this.rows.length - this.head);
+        System.arraycopy(this.rows, this.head, grown, 0, first);
+        System.arraycopy(this.rows, 0, grown, first, this.size - first);
+        this.rows = grown;
+        this.head = 0;
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.size;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return RollHistoryModel.COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return RollHistoryModel.COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return RollHistoryModel.COLUMN_CLASSES[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        int row = this.getPackedRow(rowIndex);
+
+        switch (columnIndex) {
+            case 0:
+                return this.recorded - this.size + rowIndex + 1;
+            case 1:
+                return RollHistoryModel.getDie1(row);
+            case 2:
+                return RollHistoryModel.getDie2(row);
+            case 3:
+                return RollHistoryModel.getDie1(row) + RollHistoryModel.getDie2(row);
+            case 4:
+                int point = RollHistoryModel.getPoint(row);
+                return (point == 0) ? null : point;
+            default:
+                return RollHistoryModel.RESULTS[RollHistoryModel.getResult(row)];
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package view.components;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.EventQueue;
+
+import javax.swing.BoundedRangeModel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.ScrollPaneConstants;
+
+import view.AnimationClock;
+
+/**
+ * RollHistoryPanel represents a JPanel with a scrollable table of every roll
+ * of a session. The table has a fixed row height, so it only paints the rows
+ * in view however many rolls were recorded.
+ *
+ * Rolls can be recorded from any thread. They are collected until the next
+ * frame of the animation clock, and then added to the table at once, so a
+ * background thread rolling at full speed costs the EDT one update per frame.
+ * While the table is scrolled to its last row it follows the new rolls.
+ */
+public class RollHistoryPanel extends JPanel {
+    /** The preferred size of the table's view. */
+    private static final Dimension VIEW_SIZE = new Dimension(260, 200);
+
+    /** The rolls shown. */
+    private final RollHistoryModel model;
+    /** The table showing the rolls. */
+    private final JTable table;
+    /** The scroll pane around the table. */
+    private final JScrollPane scrollPane;
+    /** Adds the collected rolls to the model once per frame. */
+    private final AnimationClock.Animation flush;
+    /** The clock the rolls are added on. */
+    private AnimationClock clock;
+
+    /** Guards the collected rolls. */
+    private final Object lock;
+    /** The rolls recorded since the last frame, from pendingStart on (guarded by lock). */
+    private int[] pending;
+    /** Where the oldest roll is in pending (guarded by lock). */
+    private int pendingStart;
+    /** How many rolls are in pending (guarded by lock). */
+    private int pendingCount;
+    /** How many collected rolls were dropped since the last frame (guarded by lock). */
+    private long pendingDropped;
+    /** Whether a flush is scheduled (guarded by lock). */
+    private boolean scheduled;
+    /** The rolls handed to the model, swapped with pending every frame (only used on the EDT). */
+    private int[] batch;
+
+    /**
+     * Constructs a RollHistoryPanel that keeps the default amount of rolls.
+     */
+    public RollHistoryPanel() {
+        this(RollHistoryModel.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a RollHistoryPanel.
+     *
+     * @param capacity The most rolls kept. Older rolls are dropped.
+     */
+    public RollHistoryPanel(int capacity) {
+        super(new BorderLayout());
+
+        this.model = new RollHistoryModel(capacity);
+        this.table = new JTable(this.model);
+        this.table.setFillsViewportHeight(true);
+        this.table.getTableHeader().setReorderingAllowed(false);
+        this.table.setPreferredScrollableViewportSize(RollHistoryPanel.VIEW_SIZE);
+        this.scrollPane = new JScrollPane(
+            this.table,
+            ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS,
+            ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER
+        );
+        this.add(this.scrollPane, BorderLayout.CENTER);
+
+        this.flush = (long now) -> {
+            this.flush();
+            return false;
+        };
+        this.clock = null;
+
+        this.lock = new Object();
+        this.pending = new int[0];
+        this.pendingStart = 0;
+        this.pendingCount = 0;
+        this.pendingDropped = 0;
+        this.scheduled = false;
+        this.batch = new int[0];
+    }
+
+    /**
+     * Gets the model of the table.
+     *
+     * @return The model.
+     */
+    public RollHistoryModel getModel() {
+        return this.model;
+    }
+
+    /**
+     * Sets the clock the rolls are added on (the shared clock by default).
+     *
+     * @param clock The clock.
+     * @return This RollHistoryPanel.
+     */
+    public RollHistoryPanel setAnimationClock(AnimationClock clock) {
+        this.clock = clock;
+
+        return this;
+    }
+
+    /**
+     * Records a roll. May be called from any thread.
+     *
+     * @param die1 Die #1.
+     * @param die2 Die #2.
+     * @param point The point the roll set (0 if it set none).
+     * @param result RollHistoryModel.NO_RESULT, WON or LOST.
+     */
+    public void record(int die1, int die2, int point, int result) {
+        int row = RollHistoryModel.pack(die1, die2, point, result);
+        boolean schedule;
+
+        synchronized (this.lock) {
+            if (this.pendingCount < this.pending.length || this.growPending()) {
+                this.pending[this.pendingCount++] = row;
+            } else {
+                // the oldest collected roll would be pushed out of the model anyway
+                this.pending[this.pendingStart] = row;
+                this.pendingStart = (this.pendingStart + 1) % this.pending.length;
+                this.pendingDropped++;
+            }
+
+            schedule = !this.scheduled;
+            this.scheduled = true;
+        }
+
+        if (schedule) {
+            EventQueue.invokeLater(() -> this.getClock().start(this.flush));
+        }
+    }
+
+    /**
+     * Removes every roll, including the ones not shown yet. Must be called on
+     * the EDT.
+     */
+    public void clear() {
+        synchronized (this.lock) {
+            this.pendingStart = 0;
+            this.pendingCount = 0;
+            this.pendingDropped = 0;
+        }
+
+        this.model.clear();
+    }
+
+    /**
+     * Adds the collected rolls to the model. Runs on the EDT.
+     */
+    private void flush() {
+        int start;
+        int count;
+        long dropped;
+        synchronized (this.lock) {
+            int[] rows = this.pending;
+            this.pending = this.batch;
+            this.batch = rows;
+            start = this.pendingStart;
+            count = this.pendingCount;
+            dropped = this.pendingDropped;
+            this.pendingStart = 0;
+            this.pendingCount = 0;
+            this.pendingDropped = 0;
+            this.scheduled = false;
+        }
+
+        BoundedRangeModel scroll = this.scrollPane.getVerticalScrollBar().getModel();
+        boolean following = scroll.getValue() + scroll.getExtent() >= scroll.getMaximum();
+
+        int first = Math.min(count, this.batch.length - start);
+        this.model.append(this.batch, start, first, dropped);
+        this.model.append(this.batch, 0, count - first, 0);
+
+        int last = this.model.getRowCount() - 1;
+        if (following && last >= 0) {
+            this.table.scrollRectToVisible(this.table.getCellRect(last, 0, true));
+        }
+    }
+
+    /**
+     * Makes room for more collected rolls, unless they already fill the
+     * model. A stalled EDT then makes the newest rolls replace the oldest
+     * ones instead of growing the collected rolls without bound. Must hold
+     * lock, and pending must be full.
+     *
+     * @return True if there is room for another roll.
+     */
+    private boolean growPending() {
+        int capacity = this.model.getCapacity();
+        if (this.pending.length >= capacity) {
+            return false;
+        }
+
+        // pending only wraps around once it is as large as the model
+        int length = (int) Math.min(Math.max(2L * this.pending.length, 64), capacity);
+        int[] grown = new int[length];
+        System.arraycopy(this.pending, 0, grown, 0, this.pendingCount);
+        this.pending = grown;
+
+        return true;
+    }
+
+    /**
+     * Gets the clock the rolls are added on.
+     *
+     * @return The clock.
+     */
+    private AnimationClock getClock() {
+        if (this.clock == null) {
+            this.clock = AnimationClock.shared();
+        }
+
+        return this.clock;
+    }
+}